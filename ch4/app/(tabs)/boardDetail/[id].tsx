@@ -30,6 +30,7 @@ interface PostDetail {
   category: string;
   createdAt: string;
   userId: string;
+  commentCount: number;
 }
 
 interface Comment {
@@ -39,6 +40,27 @@ interface Comment {
   userId: string;
 }
 
+interface CommentPage {
+  content: Comment[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
+interface PostDetailWithComments {
+  post: PostDetail;
+  comments: Comment[];
+  hasMoreComments: boolean;
+  nextCommentCursor: string | null;
+}
+
+const COMMENT_PAGE_SIZE = 50;
+
+// 이미 화면에 있는 댓글(작성 직후 직접 추가한 댓글 등)은 다시 넣지 않음
+const appendComments = (current: Comment[], next: Comment[]) => {
+  const seen = new Set(current.map((c) => c.id));
+  return [...current, ...next.filter((c) => !seen.has(c.id))];
+};
+
 const BoardDetail = () => {
   const { id: postIdFromParams } = useLocalSearchParams<{ id: string }>();
   const navigation = useNavigation();
@@ -47,6 +69,8 @@ const BoardDetail = () => {
 
   const [post, setPost] = useState<PostDetail | null>(null);
   const [comments, setComments] = useState<Comment[]>([]);
+  const [nextCommentCursor, setNextCommentCursor] = useState<string | null>(null); // 마지막으로 받은 댓글 다음 페이지 커서
+  const [isLoadingMoreComments, setIsLoadingMoreComments] = useState(false);
   const [loading, setLoading] = useState(true);
   const [isSubmittingComment, setIsSubmittingComment] = useState(false);
   const [commentInput, setCommentInput] = useState('');
@@ -68,34 +92,41 @@ const BoardDetail = () => {
   };
   const currentUserId = getCurrentUserId();
 
-  const fetchPostDetail = useCallback(async () => {
-    if (!postIdFromParams) return;
+  // 스크롤이 끝에 닿으면 마지막으로 받은 댓글의 커서부터 다음 페이지만 이어서 불러옴
+  const loadMoreComments = useCallback(async () => {
+    if (!postIdFromParams || !nextCommentCursor || isLoadingMoreComments) return;
+    setIsLoadingMoreComments(true);
     try {
-      const apiUrl = `${API_BASE_URL}${API_ENDPOINTS.GET_POST_DETAIL(postIdFromParams)}`;
-      const res = await axios.get<PostDetail>(apiUrl);
-      setPost(res.data);
+      const apiUrl = `${API_BASE_URL}${API_ENDPOINTS.GET_COMMENT_PAGE(postIdFromParams)}`;
+      const res = await axios.get<CommentPage>(apiUrl, { params: { after: nextCommentCursor, size: COMMENT_PAGE_SIZE } });
+      setComments((prev) => appendComments(prev, res.data.content));
+      setNextCommentCursor(res.data.hasNext ? res.data.nextCursor : null);
     } catch (error) {
-      console.error('게시글 상세 정보 로딩 실패 (boardDetail.tsx):', error);
-      Alert.alert("오류", "게시글 정보를 불러오는 데 실패했습니다.");
+      console.error('댓글 추가 로딩 실패 (boardDetail.tsx):', error);
+    } finally {
+      setIsLoadingMoreComments(false);
     }
-  }, [postIdFromParams]);
+  }, [postIdFromParams, nextCommentCursor, isLoadingMoreComments]);
 
-  const fetchComments = useCallback(async () => {
+  // 게시글과 첫 페이지 댓글을 한 번의 요청으로 불러옴 (나머지 댓글은 스크롤할 때 loadMoreComments로)
+  const fetchPostDetailWithComments = useCallback(async () => {
     if (!postIdFromParams) return;
     try {
-      const apiUrl = `${API_BASE_URL}${API_ENDPOINTS.GET_COMMENTS_FOR_POST(postIdFromParams)}`;
-      const res = await axios.get<Comment[]>(apiUrl);
-      setComments(res.data);
+      const apiUrl = `${API_BASE_URL}${API_ENDPOINTS.GET_POST_DETAIL_WITH_COMMENTS(postIdFromParams)}`;
+      const res = await axios.get<PostDetailWithComments>(apiUrl, { params: { commentSize: COMMENT_PAGE_SIZE } });
+      setPost(res.data.post);
+      setComments(res.data.comments);
+      setNextCommentCursor(res.data.hasMoreComments ? res.data.nextCommentCursor : null);
     } catch (error) {
-      console.error('댓글 목록 로딩 실패 (boardDetail.tsx):', error);
+      console.error('게시글 상세 정보 로딩 실패 (boardDetail.tsx):', error);
+      Alert.alert("오류", "게시글 정보를 불러오는 데 실패했습니다.");
     }
   }, [postIdFromParams]);
 
   useEffect(() => {
     const loadData = async () => {
       setLoading(true);
-      await fetchPostDetail();
-      await fetchComments();
+      await fetchPostDetailWithComments();
       setLoading(false);
     };
     if (postIdFromParams) {
@@ -105,7 +136,7 @@ const BoardDetail = () => {
       if(navigation.canGoBack()) router.back(); else router.replace('/board');
       setLoading(false);
     }
-  }, [postIdFromParams, fetchPostDetail, fetchComments, navigation, router]);
+  }, [postIdFromParams, fetchPostDetailWithComments, navigation, router]);
 
 
   const handleSubmitComment = async () => {
@@ -117,14 +148,18 @@ const BoardDetail = () => {
     setIsSubmittingComment(true);
     try {
       const apiUrl = `${API_BASE_URL}${API_ENDPOINTS.CREATE_COMMENT(postIdFromParams)}`;
-      await axios.post(
+      const res = await axios.post<Comment>(
         apiUrl,
         { content: commentInput },
         { headers: { Authorization: `Bearer ${token}` } }
       );
       setCommentInput('');
       Keyboard.dismiss();
-      await fetchComments();
+      // 새 댓글은 목록 맨 끝. 아직 불러오지 않은 댓글이 남아 있으면 스크롤로 이어서 불러올 때 함께 받음
+      if (!nextCommentCursor) {
+        setComments((prev) => appendComments(prev, [res.data]));
+      }
+      setPost((prev) => (prev ? { ...prev, commentCount: prev.commentCount + 1 } : prev));
     } catch (error: any) {
       console.error('댓글 작성 실패 (boardDetail.tsx):', error.response?.data || error.message);
       Alert.alert("오류", error.response?.data?.message || "댓글 작성 중 오류가 발생했습니다.");
@@ -166,7 +201,8 @@ const BoardDetail = () => {
             try {
               const apiUrl = `${API_BASE_URL}${API_ENDPOINTS.DELETE_COMMENT(commentId)}`;
               await axios.delete(apiUrl, { headers: { Authorization: `Bearer ${token}` } });
-              await fetchComments();
+              setComments((prev) => prev.filter((c) => c.id !== commentId));
+              setPost((prev) => (prev ? { ...prev, commentCount: Math.max(0, prev.commentCount - 1) } : prev));
             } catch (error: any) {
               console.error('댓글 삭제 실패 (boardDetail.tsx):', error.response?.data || error.message);
               Alert.alert("오류", error.response?.data?.message || "댓글 삭제 실패");
@@ -186,10 +222,10 @@ const BoardDetail = () => {
     setIsUpdatingComment(true);
     try {
       const apiUrl = `${API_BASE_URL}${API_ENDPOINTS.UPDATE_COMMENT(editingCommentId)}`;
-      await axios.put(apiUrl, { content: editedCommentContent }, { headers: { Authorization: `Bearer ${token}` } });
+      const res = await axios.put<Comment>(apiUrl, { content: editedCommentContent }, { headers: { Authorization: `Bearer ${token}` } });
+      setComments((prev) => prev.map((c) => (c.id === res.data.id ? res.data : c)));
       setEditingCommentId(null);
       setEditedCommentContent('');
-      await fetchComments();
     } catch (error: any) {
       console.error('댓글 수정 실패 (boardDetail.tsx):', error.response?.data || error.message);
       Alert.alert("오류", error.response?.data?.message || "댓글 수정 실패");
@@ -321,7 +357,7 @@ const BoardDetail = () => {
                         <Text style={styles.body}>{post.content}</Text>
                     </ScrollView>
                     <View style={styles.contentDivider} />
-                    <Text style={styles.commentsTitle}>댓글 {comments.length}개</Text>
+                    <Text style={styles.commentsTitle}>댓글 {post.commentCount}개</Text>
                 </View>
               </View>
             )}
@@ -334,6 +370,11 @@ const BoardDetail = () => {
                   <Text style={styles.emptyCommentsText}>아직 댓글이 없어요. 첫 댓글을 남겨보세요!</Text>
               </View>
             }
+            onEndReached={loadMoreComments}
+            onEndReachedThreshold={0.5}
+            ListFooterComponent={
+              isLoadingMoreComments ? <ActivityIndicator style={styles.commentsLoadingMore} color="#A0522D" /> : null
+            }
             keyboardShouldPersistTaps="handled"
           />
 
@@ -651,5 +692,8 @@ const styles = StyleSheet.create({
   emptyCommentsText: {
       color: '#B08D57',
       fontSize: 15,
+  },
+  commentsLoadingMore: {
+      marginVertical: 12,
   }
 });
@@ -30,11 +30,13 @@ export const API_ENDPOINTS = {
   GET_POSTS_LIST: '/api/posts/list',
   CREATE_POST: '/api/posts/write',
   GET_POST_DETAIL: (postId: number | string) => `/api/posts/${postId}`,
+  GET_POST_DETAIL_WITH_COMMENTS: (postId: number | string) => `/api/posts/${postId}/detail`, // 게시글 + 첫 페이지 댓글
   UPDATE_POST: (postId: number | string) => `/api/posts/${postId}`,
   DELETE_POST: (postId: number | string) => `/api/posts/${postId}`,
 
   // === 댓글 (CommentController) ===
   GET_COMMENTS_FOR_POST: (postId: number | string) => `/api/posts/${postId}/comments`,
+  GET_COMMENT_PAGE: (postId: number | string) => `/api/posts/${postId}/comments/page`, // ?after=커서&size=N
   CREATE_COMMENT: (postId: number | string) => `/api/posts/${postId}/comments`,
   UPDATE_COMMENT: (commentId: number | string) => `/api/comments/${commentId}`,
   DELETE_COMMENT: (commentId: number | string) => `/api/comments/${commentId}`,
@@ -0,0 +1,102 @@
+package com.ch4.lumia_backend.benchmark;
+
+import com.ch4.lumia_backend.security.jwt.JwtKeyRing;
+import com.ch4.lumia_backend.security.jwt.JwtKeyRingProperties;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtKeyRing 알고리즘별 Access Token 서명/검증 비용 비교.
+ * JwtUtil.generateToken과 같은 클레임으로 서명하고, JwtUtil과 같은 방식(keyLocator)으로 파싱합니다.
+ * ./gradlew jmh -Pjmh.includes=JwtSigning
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtSigningBenchmark {
+
+    private static final String KID = "bench";
+
+    @Param({"HS256", "HS384", "HS512", "ES256", "EdDSA"})
+    public String algorithm;
+
+    private JwtKeyRing keyRing;
+    private JwtParser parser;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        JwtKeyRingProperties.KeyProperties key = new JwtKeyRingProperties.KeyProperties();
+        key.setAlgorithm(algorithm);
+        switch (algorithm) {
+            case "HS256" -> key.setSecret(randomSecret(32));
+            case "HS384" -> key.setSecret(randomSecret(48));
+            case "HS512" -> key.setSecret(randomSecret(64));
+            case "ES256" -> {
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                setKeyPair(key, generator.generateKeyPair());
+            }
+            case "EdDSA" -> setKeyPair(key, KeyPairGenerator.getInstance("Ed25519").generateKeyPair());
+            default -> throw new IllegalArgumentException(algorithm);
+        }
+
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setActiveKid(KID);
+        properties.getKeys().put(KID, key);
+        keyRing = new JwtKeyRing(properties, randomSecret(32));
+        parser = Jwts.parser().keyLocator(keyRing).build();
+        token = sign();
+    }
+
+    @Benchmark
+    public String sign() {
+        Date now = new Date();
+        return keyRing.sign(Jwts.builder())
+                .subject("user1234")
+                .id(UUID.randomUUID().toString())
+                .claim("uid", 1234L)
+                .claim("role", "ROLE_USER")
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + 3_600_000L))
+                .compact();
+    }
+
+    @Benchmark
+    public Object verify() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static String randomSecret(int bytes) {
+        byte[] secret = new byte[bytes];
+        new SecureRandom().nextBytes(secret);
+        return Base64.getEncoder().encodeToString(secret);
+    }
+
+    private static void setKeyPair(JwtKeyRingProperties.KeyProperties key, KeyPair keyPair) {
+        key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+    }
+}
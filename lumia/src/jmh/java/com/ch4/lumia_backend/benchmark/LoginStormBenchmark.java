@@ -0,0 +1,118 @@
+package com.ch4.lumia_backend.benchmark;
+
+import com.ch4.lumia_backend.exception.TooManyRequestsException;
+import com.ch4.lumia_backend.service.PasswordHashingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 폭주 중 인증이 필요 없는 조회 요청의 지연 시간(p99) 비교.
+ * 그룹마다 16개 스레드가 로그인(BCrypt matches)을 계속 호출하고, 1개 스레드가 목록 응답 크기의 JSON 직렬화를 반복합니다.
+ * - direct: 예전처럼 요청 스레드에서 바로 BCrypt 실행 (동시 실행 수 제한 없음)
+ * - pooled: PasswordHashingService의 고정 크기 풀에서 실행 (대기열이 차면 429로 즉시 거절)
+ * 결과에서 listRequest의 p0.99 값을 비교하면 됩니다. (./gradlew jmh -Pjmh.includes=LoginStorm)
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class LoginStormBenchmark {
+
+    private static final int STRENGTH = 10;
+    private static final String RAW_PASSWORD = "correct-horse-battery-staple";
+
+    @State(Scope.Group)
+    public static class Hashing {
+        BCryptPasswordEncoder encoder;
+        PasswordHashingService hashingService;
+        String storedHash;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            encoder = new BCryptPasswordEncoder(STRENGTH);
+            storedHash = encoder.encode(RAW_PASSWORD);
+            // 운영 기본값과 같은 설정: threads=0(코어 절반), queue-capacity=64, timeout 10초
+            hashingService = new PasswordHashingService(encoder, 0, 64, 10_000, new SimpleMeterRegistry());
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            hashingService.shutdown();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ListPage {
+        final ObjectMapper objectMapper = new ObjectMapper();
+        final List<Map<String, Object>> rows = new ArrayList<>();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            // /api/posts/list 한 페이지(20건) 정도의 응답
+            for (int i = 0; i < 20; i++) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("id", 1_000_000L - i);
+                row.put("category", "일상");
+                row.put("title", "게시글 제목 " + i);
+                row.put("excerpt", "본문 미리보기 ".repeat(10));
+                row.put("createdAt", "2026-10-17T12:00:00");
+                row.put("userId", "user" + i);
+                row.put("commentCount", i);
+                rows.add(row);
+            }
+        }
+    }
+
+    @Benchmark
+    @Group("direct")
+    @GroupThreads(16)
+    public boolean directLogin(Hashing hashing) {
+        return hashing.encoder.matches(RAW_PASSWORD, hashing.storedHash);
+    }
+
+    @Benchmark
+    @Group("direct")
+    @GroupThreads(1)
+    public byte[] directListRequest(ListPage page) throws Exception {
+        return page.objectMapper.writeValueAsBytes(page.rows);
+    }
+
+    @Benchmark
+    @Group("pooled")
+    @GroupThreads(16)
+    public void pooledLogin(Hashing hashing, Blackhole blackhole) {
+        try {
+            blackhole.consume(hashing.hashingService.matches(RAW_PASSWORD, hashing.storedHash));
+        } catch (TooManyRequestsException e) {
+            blackhole.consume(e); // 429 응답에 해당
+        }
+    }
+
+    @Benchmark
+    @Group("pooled")
+    @GroupThreads(1)
+    public byte[] pooledListRequest(ListPage page) throws Exception {
+        return page.objectMapper.writeValueAsBytes(page.rows);
+    }
+}
@@ -0,0 +1,109 @@
+package com.ch4.lumia_backend.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 100만 건에서 /api/posts/list 페이지 번호 방식과 커서(before) 방식의 깊은 페이지 조회 비교.
+ * PostRepository.findPostSummaries(OFFSET + COUNT)와 findPostSummariesBefore(PK 범위 스캔)가 만드는 SQL을
+ * 인메모리 H2에서 그대로 실행합니다. 절대값은 MariaDB와 다르지만, 페이지가 깊어질수록 OFFSET 방식만
+ * 느려지는 경향을 확인하는 용도입니다. (./gradlew jmh -Pjmh.includes=PostListPaging)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PostListPagingBenchmark {
+
+    private static final int POSTS = 1_000_000;
+    private static final int USERS = 1_000;
+    private static final int PAGE_SIZE = 20;
+
+    private static final String SUMMARY_SELECT =
+            "SELECT p.id, p.category, p.title, p.excerpt, p.created_at, u.user_id, p.comment_count "
+          + "FROM posts p JOIN users u ON u.id = p.user_pk_id ";
+
+    // 0부터 시작하는 페이지 번호 (49_999 = 마지막 페이지)
+    @Param({"0", "100", "10000", "49999"})
+    public int page;
+
+    private Connection connection;
+    private PreparedStatement offsetQuery;
+    private PreparedStatement countQuery;
+    private PreparedStatement cursorQuery;
+    private long before;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:paging;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            statement.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, user_id VARCHAR(50) NOT NULL)");
+            statement.execute("CREATE TABLE posts (id BIGINT PRIMARY KEY, category VARCHAR(255) NOT NULL, "
+                    + "title VARCHAR(100) NOT NULL, excerpt VARCHAR(201), created_at TIMESTAMP NOT NULL, "
+                    + "comment_count INT NOT NULL, user_pk_id BIGINT NOT NULL REFERENCES users(id))");
+            statement.execute("INSERT INTO users SELECT X, 'user' || X FROM SYSTEM_RANGE(1, " + USERS + ")");
+            statement.execute("INSERT INTO posts SELECT X, 'category' || MOD(X, 8), '게시글 제목 ' || X, "
+                    + "REPEAT('본문 미리보기 ', 20), DATEADD('SECOND', X, TIMESTAMP '2025-01-01 00:00:00'), "
+                    + "MOD(X, 50), MOD(X, " + USERS + ") + 1 FROM SYSTEM_RANGE(1, " + POSTS + ")");
+        }
+
+        offsetQuery = connection.prepareStatement(SUMMARY_SELECT + "ORDER BY p.id DESC LIMIT ? OFFSET ?");
+        countQuery = connection.prepareStatement("SELECT COUNT(*) FROM posts");
+        cursorQuery = connection.prepareStatement(SUMMARY_SELECT + "WHERE p.id < ? ORDER BY p.id DESC LIMIT ?");
+        // 같은 페이지를 커서로 요청할 때 클라이언트가 들고 있는 before 값 (직전 페이지 마지막 id)
+        before = POSTS - (long) page * PAGE_SIZE + 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void offsetPage(Blackhole blackhole) throws SQLException {
+        offsetQuery.setInt(1, PAGE_SIZE);
+        offsetQuery.setLong(2, (long) page * PAGE_SIZE);
+        consume(offsetQuery, blackhole);
+        consume(countQuery, blackhole); // Page 응답의 totalElements
+    }
+
+    @Benchmark
+    public void cursorPage(Blackhole blackhole) throws SQLException {
+        cursorQuery.setLong(1, before);
+        cursorQuery.setInt(2, PAGE_SIZE + 1); // hasNext 판단용 1건 추가
+        consume(cursorQuery, blackhole);
+    }
+
+    private static void consume(PreparedStatement query, Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = query.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getLong(1));
+                blackhole.consume(rs.getString(3));
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.ch4.lumia_backend.benchmark;
+
+import com.ch4.lumia_backend.service.PostSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PostSearchIndex 검색 지연 시간과 문서당 메모리 측정.
+ * 게시글마다 제목 6단어, 본문 80단어, 댓글 3개(각 15단어)를 색인합니다. 단어는 자주 쓰는 음절 40개로 만든
+ * 2~4음절 단어 5,000개에서 빈도가 치우치게(로그 균등) 뽑아 실제 게시판처럼 흔한 bigram과 드문 bigram이 섞이도록 합니다.
+ * 메모리는 색인 구축 후 JOL로 PostSearchIndex에서 도달 가능한 객체 전체 크기를 재서 문서 수로 나눈 값을 출력합니다.
+ * ./gradlew jmh -Pjmh.includes=PostSearchIndex
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PostSearchIndexBenchmark {
+
+    private static final String SYLLABLES = "가나다라마바사아자하오늘날씨학교친구회사점심저녁주말여행사랑마음생각기분하루시간운동공부";
+    private static final int VOCABULARY_SIZE = 5_000;
+    private static final int COMMENTS_PER_POST = 3;
+
+    @Param({"10000", "100000"})
+    public int posts;
+
+    private PostSearchIndex index;
+    private String commonQuery;
+    private String rareQuery;
+    private String phraseQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        String[] vocabulary = new String[VOCABULARY_SIZE];
+        for (int i = 0; i < VOCABULARY_SIZE; i++) {
+            StringBuilder word = new StringBuilder();
+            int length = 2 + random.nextInt(3);
+            for (int j = 0; j < length; j++) {
+                word.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+            vocabulary[i] = word.toString();
+        }
+
+        index = new PostSearchIndex(new SimpleMeterRegistry());
+        long commentId = 1;
+        for (long postId = 1; postId <= posts; postId++) {
+            index.indexPost(postId, sentence(vocabulary, random, 6), sentence(vocabulary, random, 80));
+            for (int c = 0; c < COMMENTS_PER_POST; c++) {
+                index.indexComment(commentId++, postId, sentence(vocabulary, random, 15));
+            }
+        }
+
+        commonQuery = vocabulary[0];
+        rareQuery = vocabulary[VOCABULARY_SIZE - 1];
+        phraseQuery = vocabulary[3] + " " + vocabulary[120] + " " + vocabulary[2_000];
+
+        long bytes = GraphLayout.parseInstance(index).totalSize();
+        System.out.printf("%nPostSearchIndex: %d posts, %d terms, %,d bytes total, %,d bytes/post%n",
+                          index.documentCount(), index.termCount(), bytes, bytes / posts);
+    }
+
+    @Benchmark
+    public List<Long> searchCommonWord() {
+        return index.search(commonQuery, 20);
+    }
+
+    @Benchmark
+    public List<Long> searchRareWord() {
+        return index.search(rareQuery, 20);
+    }
+
+    @Benchmark
+    public List<Long> searchThreeWords() {
+        return index.search(phraseQuery, 20);
+    }
+
+    // 로그 균등 분포: 앞쪽 단어일수록 자주 나옴
+    private static String sentence(String[] vocabulary, Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            int rank = (int) Math.pow(vocabulary.length, random.nextDouble()) - 1;
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(vocabulary[rank]);
+        }
+        return sentence.toString();
+    }
+}
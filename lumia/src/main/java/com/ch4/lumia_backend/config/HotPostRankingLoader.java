@@ -0,0 +1,67 @@
+// src/main/java/com/ch4/lumia_backend/config/HotPostRankingLoader.java
+package com.ch4.lumia_backend.config;
+
+import com.ch4.lumia_backend.service.HotPostRanking;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시작 시 최근 rebuild-window-days 동안의 댓글로 HotPostRanking을 다시 채웁니다.
+ * 댓글은 작성 시각 그대로 감쇠를 적용합니다. 그보다 오래된 댓글은 반감기가 여러 번 지나 순위에 거의 영향이 없으므로 읽지 않습니다.
+ * 조회수는 발생 시각이 남아 있지 않아 정확한 감쇠를 계산할 수 없으므로 재구성에 넣지 않고, 재시작 이후 집계분부터 반영됩니다.
+ * 웹 서버가 요청을 받기 전(빈 생성 시점)에 beginRebuild를 호출하므로, 적재 중 들어온 댓글은 적재가 끝난 뒤 중복 없이 반영됩니다.
+ */
+@Component
+public class HotPostRankingLoader implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotPostRankingLoader.class);
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HotPostRanking hotPostRanking;
+    private final int windowDays;
+
+    public HotPostRankingLoader(JdbcTemplate jdbcTemplate, HotPostRanking hotPostRanking,
+                                @Value("${post.hot.rebuild-window-days:7}") int windowDays) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.hotPostRanking = hotPostRanking;
+        this.windowDays = Math.max(1, windowDays);
+        hotPostRanking.beginRebuild();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        Timestamp since = new Timestamp(start - TimeUnit.DAYS.toMillis(windowDays));
+        int[] rows = new int[1];
+
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(
+                        "SELECT id, post_id, created_at FROM comments WHERE created_at >= ?");
+                statement.setTimestamp(1, since);
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, resultSet -> {
+                hotPostRanking.loadComment(resultSet.getLong("id"), resultSet.getLong("post_id"),
+                                           resultSet.getTimestamp("created_at").getTime());
+                rows[0]++;
+            });
+        } finally {
+            hotPostRanking.finishRebuild(); // 실패해도 모아 둔 실시간 이벤트는 반영
+        }
+
+        logger.info("Hot post ranking rebuilt from {} comments ({} tracked) in {} ms.",
+                    rows[0], hotPostRanking.size(), System.currentTimeMillis() - start);
+    }
+}
\ No newline at end of file
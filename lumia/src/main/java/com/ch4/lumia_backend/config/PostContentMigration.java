@@ -0,0 +1,60 @@
+// src/main/java/com/ch4/lumia_backend/config/PostContentMigration.java
+package com.ch4.lumia_backend.config;
+
+import com.ch4.lumia_backend.entity.Post;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * posts.content를 TEXT로 넓히고 excerpt 컬럼을 채우는 시작 시 마이그레이션.
+ * ddl-auto=update는 기존 컬럼 타입(VARCHAR(255))을 바꾸지 않으므로 직접 ALTER 합니다.
+ * excerpt는 Post.excerptOf와 같은 규칙으로 만들어야 하므로 SQL이 아니라 애플리케이션에서 계산해 배치로 씁니다.
+ * 이미 마이그레이션된 DB에서는 아무 작업도 하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostContentMigration implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostContentMigration.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String contentType = jdbcTemplate.queryForObject(
+                "SELECT DATA_TYPE FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'posts' AND COLUMN_NAME = 'content'",
+                String.class);
+        if ("varchar".equalsIgnoreCase(contentType)) {
+            jdbcTemplate.execute("ALTER TABLE posts MODIFY content TEXT NOT NULL");
+            logger.info("Widened posts.content from VARCHAR to TEXT.");
+        }
+
+        int backfilled = 0;
+        List<Map<String, Object>> rows;
+        do {
+            rows = jdbcTemplate.queryForList(
+                    "SELECT id, content FROM posts WHERE excerpt IS NULL ORDER BY id LIMIT ?", BATCH_SIZE);
+            List<Object[]> updates = rows.stream()
+                    .map(row -> new Object[]{Post.excerptOf((String) row.get("content")), row.get("id")})
+                    .toList();
+            if (!updates.isEmpty()) {
+                jdbcTemplate.batchUpdate("UPDATE posts SET excerpt = ? WHERE id = ?", updates);
+                backfilled += updates.size();
+            }
+        } while (rows.size() == BATCH_SIZE);
+        if (backfilled > 0) {
+            logger.info("Backfilled excerpt for {} post(s).", backfilled);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+// src/main/java/com/ch4/lumia_backend/config/PostSearchIndexLoader.java
+package com.ch4.lumia_backend.config;
+
+import com.ch4.lumia_backend.service.PostSearchIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+
+/**
+ * 시작 시 posts/comments 전체를 스트리밍으로 읽어 PostSearchIndex를 채웁니다.
+ * fetchSize를 지정해 결과 전체를 메모리에 올리지 않고 한 행씩 색인합니다.
+ * 웹 서버가 요청을 받기 전(빈 생성 시점)에 beginRebuild를 호출하므로, 적재 중 들어온 수정/삭제는 적재가 끝난 뒤 그 위에 반영됩니다.
+ */
+@Component
+public class PostSearchIndexLoader implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostSearchIndexLoader.class);
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PostSearchIndex postSearchIndex;
+
+    public PostSearchIndexLoader(JdbcTemplate jdbcTemplate, PostSearchIndex postSearchIndex) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postSearchIndex = postSearchIndex;
+        postSearchIndex.beginRebuild();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long start = System.currentTimeMillis();
+        int[] rows = new int[2];
+
+        try {
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement("SELECT id, title, content FROM posts");
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, resultSet -> {
+                postSearchIndex.indexPost(resultSet.getLong("id"), resultSet.getString("title"), resultSet.getString("content"));
+                rows[0]++;
+            });
+
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement("SELECT id, post_id, content FROM comments");
+                statement.setFetchSize(FETCH_SIZE);
+                return statement;
+            }, resultSet -> {
+                postSearchIndex.indexComment(resultSet.getLong("id"), resultSet.getLong("post_id"), resultSet.getString("content"));
+                rows[1]++;
+            });
+        } finally {
+            postSearchIndex.finishRebuild(); // 실패해도 모아 둔 실시간 변경은 반영
+        }
+
+        logger.info("Search index built from {} posts and {} comments ({} terms) in {} ms.",
+                    rows[0], rows[1], postSearchIndex.termCount(), System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,65 @@
+// src/main/java/com/ch4/lumia_backend/config/RefreshTokenDigestMigration.java
+package com.ch4.lumia_backend.config;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * refresh_tokens 테이블을 다이제스트 저장 방식으로 옮기는 일회성 마이그레이션.
+ * ddl-auto=update는 새 컬럼만 추가하고 기존 컬럼/제약은 지우지 않으므로, 애플리케이션 시작 시 아래 작업을 수행합니다.
+ * 1) 기존 token_value 원문으로 token_hash(SHA-256 hex)를 채우고 family_id를 부여
+ * 2) user_pk_id에 걸린 unique 인덱스(이전 1:1 매핑) 제거
+ * 3) token_value 컬럼 제거
+ * 이미 마이그레이션된 DB에서는 아무 작업도 하지 않습니다.
+ * ApplicationRunner는 내장 서버가 요청을 받기 시작한 뒤에 실행되어, 그 사이 로그인/재발급 INSERT가 NOT NULL token_value 때문에 실패하므로
+ * 모든 싱글톤(EntityManagerFactory의 ddl-auto 포함) 생성 직후, 서버가 시작되기 전에 실행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenDigestMigration implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenDigestMigration.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (columnExists("token_value")) {
+            int hashed = jdbcTemplate.update(
+                    "UPDATE refresh_tokens SET token_hash = SHA2(token_value, 256) WHERE token_hash IS NULL");
+            logger.info("Backfilled token_hash for {} refresh token(s).", hashed);
+        }
+
+        jdbcTemplate.update("UPDATE refresh_tokens SET family_id = UUID() WHERE family_id IS NULL OR family_id = ''");
+        jdbcTemplate.update("UPDATE refresh_tokens SET revoked = FALSE WHERE revoked IS NULL");
+
+        List<String> uniqueUserIndexes = jdbcTemplate.queryForList(
+                "SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'refresh_tokens' " +
+                "AND COLUMN_NAME = 'user_pk_id' AND NON_UNIQUE = 0",
+                String.class);
+        for (String indexName : uniqueUserIndexes) {
+            jdbcTemplate.execute("ALTER TABLE refresh_tokens DROP INDEX `" + indexName + "`");
+            logger.info("Dropped unique index {} on refresh_tokens.user_pk_id.", indexName);
+        }
+
+        if (columnExists("token_value")) {
+            jdbcTemplate.execute("ALTER TABLE refresh_tokens DROP COLUMN token_value");
+            logger.info("Dropped plaintext column refresh_tokens.token_value.");
+        }
+    }
+
+    private boolean columnExists(String columnName) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.COLUMNS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'refresh_tokens' AND COLUMN_NAME = ?",
+                Integer.class, columnName);
+        return count != null && count > 0;
+    }
+}
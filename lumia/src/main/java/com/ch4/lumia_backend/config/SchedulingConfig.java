@@ -0,0 +1,13 @@
+// src/main/java/com/ch4/lumia_backend/config/SchedulingConfig.java
+package com.ch4.lumia_backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화. 만료 토큰 정리 등 백그라운드 작업에 사용합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,9 +1,12 @@
 // src/main/java/com/ch4/lumia_backend/config/SecurityConfig.java
 package com.ch4.lumia_backend.config;
 
+import com.ch4.lumia_backend.security.BCryptWorkFactorCalibrator;
+import com.ch4.lumia_backend.security.jwt.AccessTokenRevocationList;
 import com.ch4.lumia_backend.security.jwt.JwtAuthenticationFilter;
 import com.ch4.lumia_backend.security.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -14,11 +17,14 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.AnonymousConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 
 @Configuration
 @EnableWebSecurity
@@ -26,10 +32,26 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
+    private final AccessTokenRevocationList accessTokenRevocationList;
 
+    /**
+     * 저장 형식은 {bcrypt}$2a$... (DelegatingPasswordEncoder).
+     * 접두어가 없는 기존 해시도 BCrypt로 검증되며, 로그인 시 새 형식/새 cost로 다시 해싱됩니다.
+     * cost는 password.bcrypt.strength로 고정하거나, 0이면 시작 시 목표 해시 시간에 맞춰 측정해서 정합니다.
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:0}") int fixedStrength,
+                                           @Value("${password.bcrypt.target-ms:250}") long targetMillis,
+                                           @Value("${password.bcrypt.min-strength:10}") int minStrength,
+                                           @Value("${password.bcrypt.max-strength:16}") int maxStrength) {
+        int strength = fixedStrength > 0
+                ? fixedStrength
+                : BCryptWorkFactorCalibrator.calibrate(targetMillis, minStrength, maxStrength);
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt); // 접두어 없는 기존 해시
+        return encoder;
     }
 
     @Bean
@@ -50,20 +72,25 @@ public class SecurityConfig {
                 .requestMatchers("/api/questions/**").authenticated()
                 .requestMatchers("/api/answers/**").authenticated()
 
-                .requestMatchers(HttpMethod.GET, "/api/posts/list", "/api/posts/{id}").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/posts/list", "/api/posts/categories", "/api/posts/search", "/api/posts/hot", "/api/posts/stream", "/api/posts/{id}", "/api/posts/{id}/detail", "/api/posts/{id}/views").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/posts/write").authenticated()
                 .requestMatchers(HttpMethod.PUT, "/api/posts/{id}").authenticated()
                 .requestMatchers(HttpMethod.DELETE, "/api/posts/{id}").authenticated()
 
-                .requestMatchers(HttpMethod.GET, "/api/posts/{postId}/comments").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/posts/{postId}/comments", "/api/posts/{postId}/comments/page").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/posts/{postId}/comments").authenticated()
                 .requestMatchers(HttpMethod.PUT, "/api/comments/{commentId}").authenticated()
                 .requestMatchers(HttpMethod.DELETE, "/api/comments/{commentId}").authenticated()
-                
+
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/actuator/**").authenticated()
+
                 .anyRequest().permitAll() // 개발 중에는 permitAll, 배포 시에는 denyAll 또는 특정 권한으로 변경 권장
             );
 
-        http.addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+        http.addFilterBefore(new JwtAuthenticationFilter(jwtUtil, accessTokenRevocationList), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,47 @@
+package com.ch4.lumia_backend.controller;
+
+import com.ch4.lumia_backend.dto.PostBulkDeleteRequestDto;
+import com.ch4.lumia_backend.service.PostService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * 관리자용 게시글 API. SecurityConfig에서 /api/admin/** 는 ROLE_ADMIN만 허용합니다.
+ */
+@RestController
+@RequestMapping("/api/admin/posts")
+@RequiredArgsConstructor
+public class AdminPostController {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdminPostController.class);
+
+    private final PostService postService;
+
+    /**
+     * 게시글 일괄 삭제 - POST /api/admin/posts/bulk-delete  {"ids": [1, 2, 3]}
+     * 댓글과 게시글을 각각 DELETE 한 번으로 지우며, 존재하지 않는 ID는 무시합니다.
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<?> deletePosts(@RequestBody PostBulkDeleteRequestDto requestDto) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String adminUserId = authentication.getName();
+        try {
+            int deleted = postService.deletePosts(requestDto.getIds());
+            logger.info("관리자 게시글 일괄 삭제 - 관리자: {}, 요청: {}건, 삭제: {}건", adminUserId, requestDto.getIds().size(), deleted);
+            return ResponseEntity.ok(Map.of("deletedCount", deleted));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("관리자 게시글 일괄 삭제 실패 - 관리자: {}: {}", adminUserId, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("게시글 삭제 중 오류 발생");
+        }
+    }
+}
\ No newline at end of file
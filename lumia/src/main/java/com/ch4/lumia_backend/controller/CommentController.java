@@ -1,7 +1,9 @@
 package com.ch4.lumia_backend.controller;
 
+import com.ch4.lumia_backend.dto.CommentCursor;
 import com.ch4.lumia_backend.dto.CommentRequestDto;
 import com.ch4.lumia_backend.dto.CommentResponseDto;
+import com.ch4.lumia_backend.dto.ResourceVersion;
 import com.ch4.lumia_backend.entity.Comment;
 import com.ch4.lumia_backend.entity.Post;
 import com.ch4.lumia_backend.service.CommentService;
@@ -9,11 +11,16 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,8 +33,13 @@ public class CommentController {
     private final CommentService commentService;
 
     @GetMapping("/api/posts/{postId}/comments")
-    public ResponseEntity<?> getComments(@PathVariable(name = "postId") Long postId) { // "postId" 이름 명시
+    public ResponseEntity<?> getComments(@PathVariable(name = "postId") Long postId, WebRequest webRequest) { // "postId" 이름 명시
         try {
+            // 댓글 수·최대 ID·최종 수정 시각만 집계한 ETag가 같으면 목록을 읽지 않고 304
+            ResourceVersion version = commentService.getCommentsVersion(postId);
+            if (webRequest.checkNotModified(version.getEtag())) {
+                return null;
+            }
             List<Comment> comments = commentService.getCommentsByPostId(postId);
             List<CommentResponseDto> response = comments.stream()
                     .map(CommentResponseDto::new)
@@ -39,6 +51,35 @@ public class CommentController {
         }
     }
 
+    /**
+     * 댓글 페이지 조회 - GET /api/posts/{postId}/comments/page?after={nextCursor}&size=50
+     * (createdAt, id) 키셋 커서 방식이며 응답 JSON은 DB에서 읽는 대로 스트리밍합니다.
+     * 첫 페이지는 after 없이 요청하고, hasNext가 true이면 nextCursor를 after로 넘깁니다.
+     */
+    @GetMapping("/api/posts/{postId}/comments/page")
+    public ResponseEntity<StreamingResponseBody> getCommentPage(
+            @PathVariable(name = "postId") Long postId,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", defaultValue = "50") int size
+    ) {
+        CommentCursor cursor;
+        try {
+            cursor = StringUtils.hasText(after) ? CommentCursor.decode(after) : null;
+        } catch (IllegalArgumentException e) {
+            return textBody(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+        try {
+            commentService.ensurePostExists(postId);
+        } catch (IllegalArgumentException e) {
+            return textBody(HttpStatus.NOT_FOUND, e.getMessage());
+        } catch (Exception e) {
+            logger.error("댓글 페이지 조회 실패 - postId: {}, error: {}", postId, e.getMessage(), e);
+            return textBody(HttpStatus.INTERNAL_SERVER_ERROR, "댓글 조회 실패");
+        }
+        StreamingResponseBody body = out -> commentService.writeCommentPage(postId, cursor, size, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
     @PostMapping("/api/posts/{postId}/comments")
     public ResponseEntity<?> createComment(@PathVariable(name = "postId") Long postId, // "postId" 이름 명시
                                            @RequestBody CommentRequestDto dto) {
@@ -121,4 +162,11 @@ public class CommentController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("댓글 삭제 중 오류 발생");
         }
     }
+
+    // 스트리밍 응답 메소드의 오류 메시지 (반환 타입이 StreamingResponseBody로 고정되어 있어 문자열을 직접 씀)
+    private ResponseEntity<StreamingResponseBody> textBody(HttpStatus status, String message) {
+        return ResponseEntity.status(status)
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(out -> out.write(message.getBytes(StandardCharsets.UTF_8)));
+    }
 }
\ No newline at end of file
@@ -1,20 +1,33 @@
 package com.ch4.lumia_backend.controller;
 
+import com.ch4.lumia_backend.dto.PostDetailResponseDto;
 import com.ch4.lumia_backend.dto.PostRequestDto;
 import com.ch4.lumia_backend.dto.PostResponseDto;
+import com.ch4.lumia_backend.dto.PostSummaryDto;
+import com.ch4.lumia_backend.dto.PostViewCountDto;
+import com.ch4.lumia_backend.dto.ResourceVersion;
 import com.ch4.lumia_backend.entity.Post;
 import com.ch4.lumia_backend.entity.User;
+import com.ch4.lumia_backend.service.BoardEventHub;
+import com.ch4.lumia_backend.service.PostListCache;
 import com.ch4.lumia_backend.service.PostService;
-import com.ch4.lumia_backend.service.UserService;
+import com.ch4.lumia_backend.service.PostViewCounter;
+import com.ch4.lumia_backend.service.UserLookupService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/posts")
@@ -24,17 +37,40 @@ public class PostController {
     private static final Logger logger = LoggerFactory.getLogger(PostController.class);
 
     private final PostService postService;
-    private final UserService userService;
+    private final UserLookupService userLookupService;
+    private final PostListCache postListCache;
+    private final PostViewCounter postViewCounter;
+    private final BoardEventHub boardEventHub;
 
     @GetMapping("/list")
     public ResponseEntity<?> getPosts(
             @RequestParam(value = "page", defaultValue = "0") int page,
-            @RequestParam(value = "size", defaultValue = "5") int size
+            @RequestParam(value = "size", defaultValue = "5") int size,
+            @RequestParam(value = "before", required = false) Long before, // 지정하면 커서 방식 (0 이하이면 최신 글부터)
+            @RequestParam(value = "category", required = false) String categoryParam, // 비어 있으면 전체
+            WebRequest webRequest
     ) {
-        logger.info("게시글 목록 조회 요청 - page: {}, size: {}", page, size);
+        String category = StringUtils.hasText(categoryParam) ? categoryParam.trim() : null;
+        logger.info("게시글 목록 조회 요청 - page: {}, size: {}, before: {}, category: {}", page, size, before, category);
         try {
-            Page<Post> postPage = postService.getPosts(page, size);
-            Page<PostResponseDto> responsePage = postPage.map(PostResponseDto::new);
+            // 캐시되는 앞쪽 페이지만 ETag(캐시된 JSON의 해시)로 304 처리. 깊은 페이지는 매번 조회
+            if (before != null) {
+                if (before <= 0 && postListCache.isCacheable(0, size)) {
+                    return cachedJson(postListCache.get(PostListCache.cursorHeadKey(size, category),
+                                                        () -> postService.getPostsBefore(0, size, category),
+                                                        result -> PostListCache.postIdsOf(result.getContent())),
+                                      webRequest);
+                }
+                return ResponseEntity.ok(postService.getPostsBefore(before, size, category));
+            }
+            if (postListCache.isCacheable(page, size)) {
+                // 앞쪽 페이지는 직렬화된 JSON을 캐시에서 바로 응답
+                return cachedJson(postListCache.get(PostListCache.pageKey(page, size, category),
+                                                    () -> postService.getPosts(page, size, category),
+                                                    result -> PostListCache.postIdsOf(result.getContent())),
+                                  webRequest);
+            }
+            Page<PostSummaryDto> responsePage = postService.getPosts(page, size, category);
             return ResponseEntity.ok(responsePage);
         } catch (Exception e) {
             logger.error("게시글 목록 조회 실패: {}", e.getMessage(), e);
@@ -42,6 +78,68 @@ public class PostController {
         }
     }
 
+    /**
+     * 카테고리별 게시글 수 - GET /api/posts/categories
+     */
+    @GetMapping("/categories")
+    public ResponseEntity<?> getCategoryCounts() {
+        try {
+            return ResponseEntity.ok(postService.getCategoryCounts());
+        } catch (Exception e) {
+            logger.error("카테고리별 게시글 수 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("카테고리 조회 중 오류 발생");
+        }
+    }
+
+    /**
+     * 게시글 검색 - GET /api/posts/search?q=검색어&size=10
+     * 제목, 내용, 댓글을 대상으로 하며 관련도 순으로 반환합니다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<?> searchPosts(
+            @RequestParam(value = "q") String query,
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        if (!StringUtils.hasText(query)) {
+            return ResponseEntity.badRequest().body("검색어를 입력해주세요.");
+        }
+        try {
+            return ResponseEntity.ok(postService.searchPosts(query, size));
+        } catch (Exception e) {
+            logger.error("게시글 검색 실패 - q: {}: {}", query, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("게시글 검색 중 오류 발생");
+        }
+    }
+
+    /**
+     * 인기 게시글 - GET /api/posts/hot?size=10
+     * 최근 댓글·조회수에 시간 감쇠를 적용한 점수 순입니다.
+     */
+    @GetMapping("/hot")
+    public ResponseEntity<?> getHotPosts(@RequestParam(value = "size", defaultValue = "10") int size) {
+        try {
+            return ResponseEntity.ok(postService.getHotPosts(size));
+        } catch (Exception e) {
+            logger.error("인기 게시글 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("인기 게시글 조회 중 오류 발생");
+        }
+    }
+
+    /**
+     * 게시판 실시간 알림 - GET /api/posts/stream (text/event-stream)
+     * 게시글 작성/수정/삭제(post-created, post-updated, post-deleted, 일괄 삭제는 posts-deleted)와 댓글 작성(comment-added)을 커밋 후 전달합니다.
+     * 목록을 주기적으로 다시 조회하는 대신 이 알림을 받았을 때만 새로고침하면 됩니다.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamBoardEvents() {
+        try {
+            return ResponseEntity.ok(boardEventHub.subscribe());
+        } catch (IllegalStateException e) {
+            logger.warn("게시판 실시간 알림 구독 거절: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+    }
+
     @PostMapping("/write")
     public ResponseEntity<?> createPost(@RequestBody PostRequestDto postDto) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -54,7 +152,7 @@ public class PostController {
 
         try {
             logger.info("게시글 작성 요청 - 작성자: {}", currentUserId);
-            User user = userService.findByUserId(currentUserId);
+            User user = userLookupService.getReference(currentUserId); // 토큰에 PK가 있으면 SELECT 없이 참조만 획득
 
             Post createdPost = postService.createPost(
                     postDto.getCategory(),
@@ -64,7 +162,7 @@ public class PostController {
             );
 
             return ResponseEntity.status(HttpStatus.CREATED)
-                    .body(new PostResponseDto(createdPost));
+                    .body(new PostResponseDto(createdPost, currentUserId));
 
         } catch (IllegalArgumentException e) { 
             logger.warn("게시글 작성 실패 (사용자 조회 실패 또는 서비스 로직 오류) - {}: {}", currentUserId, e.getMessage());
@@ -80,10 +178,19 @@ public class PostController {
      * SecurityConfig에서 permitAll()로 설정됨.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<?> getPostDetail(@PathVariable(name = "id") Long id) { // "id" 이름 명시
+    public ResponseEntity<?> getPostDetail(@PathVariable(name = "id") Long id, WebRequest webRequest) { // "id" 이름 명시
         try {
-            Post post = postService.getPostById(id);
-            return ResponseEntity.ok(new PostResponseDto(post));
+            // 수정 시각·댓글 수로 만든 ETag만 먼저 조회해서 클라이언트 사본이 최신이면 304
+            Optional<ResourceVersion> version = postService.getPostVersion(id);
+            if (version.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("ID " + id + "에 해당하는 게시글이 존재하지 않습니다.");
+            }
+            if (webRequest.checkNotModified(version.get().getEtag())) {
+                return null; // 재검증(304)은 조회수에 넣지 않음
+            }
+            PostResponseDto post = postService.getPostResponse(id);
+            postViewCounter.increment(id);
+            return ResponseEntity.ok(post);
         } catch (IllegalArgumentException e) { 
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
         } catch (Exception e) {
@@ -92,6 +199,44 @@ public class PostController {
         }
     }
 
+    /**
+     * 게시글 상세 + 첫 페이지 댓글 - GET /api/posts/{id}/detail?commentSize=50
+     * 상세 화면에서 게시글과 댓글을 따로 요청하지 않도록 한 번에 반환합니다.
+     */
+    @GetMapping("/{id}/detail")
+    public ResponseEntity<?> getPostDetailWithComments(
+            @PathVariable(name = "id") Long id,
+            @RequestParam(value = "commentSize", defaultValue = "50") int commentSize
+    ) {
+        try {
+            PostDetailResponseDto detail = postService.getPostDetail(id, commentSize);
+            postViewCounter.increment(id);
+            return ResponseEntity.ok(detail);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("게시글 상세(댓글 포함) 조회 실패 - {}: {}", id, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("게시글 조회 중 오류 발생");
+        }
+    }
+
+    /**
+     * 게시글 조회수 - GET /api/posts/{id}/views
+     * 조회수는 목록/상세 응답(캐시·ETag 대상)에 넣지 않고 이 엔드포인트로만 제공합니다. 반영 전 증분까지 더한 근사치입니다.
+     */
+    @GetMapping("/{id}/views")
+    public ResponseEntity<?> getViewCount(@PathVariable(name = "id") Long id) {
+        try {
+            long pendingViews = postViewCounter.pendingCount(id); // DB보다 먼저 읽어서 반영 중인 증분이 빠지지 않도록
+            return ResponseEntity.ok(new PostViewCountDto(id, postService.getViewCount(id) + pendingViews));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("게시글 조회수 조회 실패 - {}: {}", id, e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("조회수 조회 중 오류 발생");
+        }
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<?> updatePost(@PathVariable(name = "id") Long id, @RequestBody PostRequestDto postDto) { // "id" 이름 명시
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -103,9 +248,9 @@ public class PostController {
         }
 
         try {
-            User user = userService.findByUserId(currentUserId);
+            User user = userLookupService.getReference(currentUserId);
             Post updatedPost = postService.updatePost(id, postDto, user);
-            return ResponseEntity.ok(new PostResponseDto(updatedPost));
+            return ResponseEntity.ok(new PostResponseDto(updatedPost, currentUserId)); // 권한 검사를 통과했으므로 작성자 = 현재 사용자
         } catch (IllegalArgumentException e) { 
             logger.warn("게시글 수정 실패 (postId: {}, userId: {}): {}", id, currentUserId, e.getMessage());
             if (e.getMessage().contains("권한이 없습니다")) {
@@ -129,7 +274,7 @@ public class PostController {
         }
 
         try {
-            User user = userService.findByUserId(currentUserId);
+            User user = userLookupService.getReference(currentUserId);
             postService.deletePost(id, user);
             return ResponseEntity.noContent().build();
         } catch (IllegalArgumentException e) { 
@@ -143,4 +288,12 @@ public class PostController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("게시글 삭제 중 오류 발생");
         }
     }
+
+    // 캐시된 JSON 바이트를 그대로 응답 (클라이언트가 같은 내용을 갖고 있으면 304)
+    private ResponseEntity<byte[]> cachedJson(PostListCache.CachedPage page, WebRequest webRequest) {
+        if (webRequest.checkNotModified(page.getEtag())) {
+            return null;
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(page.getBody());
+    }
 }
\ No newline at end of file
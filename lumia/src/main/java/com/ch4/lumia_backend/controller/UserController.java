@@ -4,13 +4,20 @@ package com.ch4.lumia_backend.controller;
 import com.ch4.lumia_backend.dto.*;
 import com.ch4.lumia_backend.entity.RefreshToken;
 import com.ch4.lumia_backend.entity.User;
+import com.ch4.lumia_backend.exception.InvalidRefreshTokenException;
+import com.ch4.lumia_backend.exception.TooManyRequestsException;
+import com.ch4.lumia_backend.security.LoginAttemptLimiter;
+import com.ch4.lumia_backend.security.jwt.AccessTokenRevocationList;
+import com.ch4.lumia_backend.security.jwt.JwtUserPrincipal;
 import com.ch4.lumia_backend.security.jwt.JwtUtil;
 import com.ch4.lumia_backend.service.RefreshTokenService;
 import com.ch4.lumia_backend.service.UserService;
 import com.ch4.lumia_backend.service.UserSettingService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -18,6 +25,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map; // Map import 추가
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/users") // 기본 경로 일관성 유지
@@ -30,15 +38,25 @@ public class UserController {
     private final JwtUtil jwtUtil;
     private final UserSettingService userSettingService;
     private final RefreshTokenService refreshTokenService;
+    private final AccessTokenRevocationList accessTokenRevocationList;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     // === 인증 관련 엔드포인트 ===
     @PostMapping("/auth/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequestDto loginRequestDto) {
+    public ResponseEntity<?> login(@RequestBody LoginRequestDto loginRequestDto, HttpServletRequest request) {
         logger.info("Login attempt for user: {}", loginRequestDto.getUserId());
-        boolean loginSuccess = userService.login(loginRequestDto.getUserId(), loginRequestDto.getPassword());
-        if (loginSuccess) {
-            String accessToken = jwtUtil.generateToken(loginRequestDto.getUserId());
-            RefreshToken refreshTokenEntity = refreshTokenService.createOrUpdateRefreshToken(loginRequestDto.getUserId());
+        Optional<User> loginUser;
+        try {
+            // DB 조회와 BCrypt 검증 전에 아이디/IP별 시도 횟수부터 확인
+            loginAttemptLimiter.acquire(loginRequestDto.getUserId(), request.getRemoteAddr());
+            loginUser = userService.login(loginRequestDto.getUserId(), loginRequestDto.getPassword());
+        } catch (TooManyRequestsException e) {
+            logger.warn("Login rejected for user {}: {}", loginRequestDto.getUserId(), e.getMessage());
+            return tooManyRequests(e);
+        }
+        if (loginUser.isPresent()) {
+            String accessToken = jwtUtil.generateToken(loginUser.get());
+            RefreshToken refreshTokenEntity = refreshTokenService.createOrUpdateRefreshToken(loginUser.get());
 
             logger.info("Login successful for user: {}, token generated.", loginRequestDto.getUserId());
             LoginResponseDto loginResponse = new LoginResponseDto(
@@ -66,6 +84,9 @@ public class UserController {
         } catch (IllegalArgumentException e) {
             logger.warn("Signup failed for user {}: {}", signupRequestDto.getUserId(), e.getMessage());
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (TooManyRequestsException e) {
+            logger.warn("Signup rejected for user {}: {}", signupRequestDto.getUserId(), e.getMessage());
+            return tooManyRequests(e);
         } catch (Exception e) {
             logger.error("Error during signup for user {}: {}", signupRequestDto.getUserId(), e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -75,20 +96,18 @@ public class UserController {
 
     @PostMapping("/auth/refresh-token")
     public ResponseEntity<?> refreshToken(@RequestBody RefreshTokenRequestDto requestDto) {
-        String requestRefreshToken = requestDto.getRefreshToken();
-        return refreshTokenService.findByToken(requestRefreshToken)
-                .map(refreshTokenService::verifyExpiration)
-                .map(RefreshToken::getUser)
-                .map(user -> {
-                    String newAccessToken = jwtUtil.generateToken(user.getUserId());
-                    logger.info("New access token generated for user: {} via refresh token", user.getUserId());
-                    return ResponseEntity.ok(new TokenRefreshResponseDto(newAccessToken, requestRefreshToken));
-                })
-                .orElseThrow(() -> {
-                    logger.warn("Refresh token not found or invalid during refresh attempt: {}", requestRefreshToken);
-                    // 프론트엔드에서 이 예외를 잘 처리하도록 명확한 메시지 또는 커스텀 예외 반환 고려
-                    return new RuntimeException("Refresh token is not in database or invalid!");
-                });
+        try {
+            // 사용한 리프레시 토큰은 폐기되고, 같은 패밀리의 새 리프레시 토큰이 함께 발급됨
+            RefreshToken rotated = refreshTokenService.rotate(requestDto.getRefreshToken());
+            User user = rotated.getUser();
+            String newAccessToken = jwtUtil.generateToken(user);
+            logger.info("New access token generated for user: {} via refresh token", user.getUserId());
+            return ResponseEntity.ok(new TokenRefreshResponseDto(newAccessToken, rotated.getToken()));
+        } catch (InvalidRefreshTokenException e) {
+            // 토큰 원문은 로그에 남기지 않음
+            logger.warn("Refresh token rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
     }
 
     @PostMapping("/auth/logout")
@@ -102,6 +121,10 @@ public class UserController {
             } catch (Exception e) {
                 logger.error("Error deleting refresh token for user {} during logout: {}", currentUserId, e.getMessage(), e);
             }
+            // 현재 Access Token도 만료 시각까지 사용할 수 없도록 폐기
+            if (authentication.getPrincipal() instanceof JwtUserPrincipal principal) {
+                accessTokenRevocationList.revoke(principal.getTokenId(), principal.getExpiresAt());
+            }
             SecurityContextHolder.clearContext();
             return ResponseEntity.ok("로그아웃 되었습니다.");
         }
@@ -222,6 +245,15 @@ public class UserController {
             return ResponseEntity.ok("비밀번호가 성공적으로 변경되었습니다.");
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (TooManyRequestsException e) {
+            return tooManyRequests(e);
         }
     }
+
+    // 비밀번호 해싱 대기열이 가득 찼거나 로그인 시도 한도를 넘은 경우: 429 + Retry-After 헤더로 응답
+    private ResponseEntity<?> tooManyRequests(TooManyRequestsException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                             .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                             .body(e.getMessage());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+// src/main/java/com/ch4/lumia_backend/dto/BoardEventDto.java
+package com.ch4.lumia_backend.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시판 SSE 스트림(GET /api/posts/stream)으로 보내는 가벼운 알림.
+ * 본문은 담지 않으며, 클라이언트는 필요하면 postId로 상세/목록을 다시 조회합니다.
+ */
+@Getter
+public class BoardEventDto {
+    private final String type;      // SSE event 이름과 같음: post-created, post-updated, post-deleted, posts-deleted, comment-added
+    private final Long postId;
+    private final String category;  // 게시글 이벤트만 (댓글 이벤트는 null)
+    private final String title;     // 작성/수정 이벤트만 (그 외 null)
+    private final Long commentId;   // 댓글 이벤트만 (게시글 이벤트는 null)
+    private final List<Long> postIds; // posts-deleted(일괄 삭제)만 (그 외 null)
+
+    public BoardEventDto(String type, Long postId, String category, String title, Long commentId) {
+        this(type, postId, category, title, commentId, null);
+    }
+
+    private BoardEventDto(String type, Long postId, String category, String title, Long commentId, List<Long> postIds) {
+        this.type = type;
+        this.postId = postId;
+        this.category = category;
+        this.title = title;
+        this.commentId = commentId;
+        this.postIds = postIds;
+    }
+
+    public static BoardEventDto postsDeleted(List<Long> postIds) {
+        return new BoardEventDto("posts-deleted", null, null, null, null, postIds);
+    }
+}
\ No newline at end of file
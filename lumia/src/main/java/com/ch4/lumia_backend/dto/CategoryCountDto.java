@@ -0,0 +1,15 @@
+// src/main/java/com/ch4/lumia_backend/dto/CategoryCountDto.java
+package com.ch4.lumia_backend.dto;
+
+import lombok.Getter;
+
+@Getter
+public class CategoryCountDto {
+    private final String category;
+    private final long postCount;
+
+    public CategoryCountDto(String category, long postCount) {
+        this.category = category;
+        this.postCount = postCount;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+// src/main/java/com/ch4/lumia_backend/dto/CommentCursor.java
+package com.ch4.lumia_backend.dto;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 댓글 키셋 페이지네이션 커서: 마지막으로 받은 댓글의 (createdAt, id).
+ * 클라이언트에는 내부 형식을 드러내지 않도록 URL-safe Base64 문자열로만 주고받습니다.
+ */
+@Getter
+public class CommentCursor {
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public CommentCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = createdAt + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 커서 형식이 올바르지 않은 경우
+     */
+    public static CommentCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('_');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("잘못된 댓글 커서입니다.");
+            }
+            return new CommentCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                                     Long.parseLong(raw.substring(separator + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 댓글 커서입니다.");
+        }
+    }
+}
\ No newline at end of file
@@ -20,4 +20,14 @@ public class CommentResponseDto {
         this.createdAt = comment.getCreatedAt(); // LocalDateTime 타입 그대로 유지
         this.userId = comment.getUserId();  // Comment 엔티티에서 직접 가져옴
     }
+
+    /**
+     * CommentRepository의 JPQL 생성자 표현식(SELECT new ...)에서 사용.
+     */
+    public CommentResponseDto(Long id, String content, LocalDateTime createdAt, String userId) {
+        this.id = id;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.userId = userId;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+// src/main/java/com/ch4/lumia_backend/dto/PostBulkDeleteRequestDto.java
+package com.ch4.lumia_backend.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class PostBulkDeleteRequestDto {
+    private List<Long> ids; // 삭제할 게시글 ID 목록
+}
\ No newline at end of file
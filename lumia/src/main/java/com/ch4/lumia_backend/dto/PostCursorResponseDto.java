@@ -0,0 +1,23 @@
+// src/main/java/com/ch4/lumia_backend/dto/PostCursorResponseDto.java
+package com.ch4.lumia_backend.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 방식 게시글 목록 응답.
+ * 다음 페이지는 ?before={nextCursor} 로 요청합니다. hasNext가 false이면 nextCursor는 null입니다.
+ */
+@Getter
+public class PostCursorResponseDto {
+    private final List<PostSummaryDto> content;
+    private final Long nextCursor;
+    private final boolean hasNext;
+
+    public PostCursorResponseDto(List<PostSummaryDto> content, Long nextCursor, boolean hasNext) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = hasNext;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,26 @@
+// src/main/java/com/ch4/lumia_backend/dto/PostDetailResponseDto.java
+package com.ch4.lumia_backend.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시글 상세 + 첫 페이지 댓글 응답 (상세 화면을 한 번의 요청으로 그리기 위함).
+ * hasMoreComments가 true이면 다음 댓글은 GET /api/posts/{postId}/comments/page?after={nextCommentCursor} 로 이어서 조회합니다.
+ */
+@Getter
+public class PostDetailResponseDto {
+    private final PostResponseDto post;
+    private final List<CommentResponseDto> comments;
+    private final boolean hasMoreComments;
+    private final String nextCommentCursor; // hasMoreComments가 false이면 null
+
+    public PostDetailResponseDto(PostResponseDto post, List<CommentResponseDto> comments, boolean hasMoreComments,
+                                 String nextCommentCursor) {
+        this.post = post;
+        this.comments = comments;
+        this.hasMoreComments = hasMoreComments;
+        this.nextCommentCursor = nextCommentCursor;
+    }
+}
\ No newline at end of file
@@ -4,6 +4,7 @@ package com.ch4.lumia_backend.dto;
 import com.ch4.lumia_backend.entity.Post;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter; // DateTimeFormatter 추가 (선택적)
 
 @Getter
@@ -14,8 +15,16 @@ public class PostResponseDto {
     private String content;
     private String createdAt;
     private String userId; // 작성자 ID
+    private int commentCount; // 댓글 수 (조회수는 자주 바뀌므로 /api/posts/{id}/views 로 따로 조회)
 
     public PostResponseDto(Post post) {
+        this(post, post.getAuthor().getUserId()); // 작성자 ID 매핑
+    }
+
+    /**
+     * 작성자 로그인 ID를 이미 알고 있을 때 사용 (author 프록시 초기화로 인한 추가 SELECT 방지)
+     */
+    public PostResponseDto(Post post, String authorUserId) {
         this.id = post.getId();
         this.category = post.getCategory();
         this.title = post.getTitle();
@@ -23,6 +32,22 @@ public class PostResponseDto {
         // createdAt을 특정 형식의 문자열로 보내고 싶다면 DateTimeFormatter 사용 가능
         // 예: this.createdAt = post.getCreatedAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
         this.createdAt = post.getCreatedAt().toString(); // 기본 ISO 8601 형식 문자열
-        this.userId = post.getAuthor().getUserId(); // 작성자 ID 매핑
+        this.userId = authorUserId;
+        this.commentCount = post.getCommentCount();
+    }
+
+    /**
+     * PostRepository의 JPQL 생성자 표현식(SELECT new ...)에서 사용.
+     * 작성자 ID를 같은 쿼리에서 조인해 가져오므로 엔티티/프록시를 거치지 않습니다.
+     */
+    public PostResponseDto(Long id, String category, String title, String content, LocalDateTime createdAt, String userId,
+                           int commentCount) {
+        this.id = id;
+        this.category = category;
+        this.title = title;
+        this.content = content;
+        this.createdAt = createdAt.toString();
+        this.userId = userId;
+        this.commentCount = commentCount;
     }
 }
\ No newline at end of file
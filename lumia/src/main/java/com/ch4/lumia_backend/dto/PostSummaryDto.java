@@ -0,0 +1,37 @@
+// src/main/java/com/ch4/lumia_backend/dto/PostSummaryDto.java
+package com.ch4.lumia_backend.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 목록/검색 결과용 게시글 요약.
+ * 본문 대신 작성 시점에 저장해 둔 excerpt(미리보기)만 담으므로 목록 쿼리는 content 컬럼을 읽지 않습니다.
+ * 전체 본문은 상세 조회(PostResponseDto)에서만 내려갑니다.
+ * 조회수는 몇 초마다 바뀌어 목록 캐시·ETag를 계속 깨뜨리므로 담지 않습니다. (/api/posts/{id}/views)
+ */
+@Getter
+public class PostSummaryDto {
+    private final Long id;
+    private final String category;
+    private final String title;
+    private final String excerpt; // 본문 앞부분 미리보기 (최대 Post.EXCERPT_LENGTH자)
+    private final String createdAt;
+    private final String userId; // 작성자 ID
+    private final int commentCount; // 댓글 수
+
+    /**
+     * PostRepository의 JPQL 생성자 표현식(SELECT new ...)에서 사용.
+     */
+    public PostSummaryDto(Long id, String category, String title, String excerpt, LocalDateTime createdAt, String userId,
+                          int commentCount) {
+        this.id = id;
+        this.category = category;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.createdAt = createdAt.toString();
+        this.userId = userId;
+        this.commentCount = commentCount;
+    }
+}
\ No newline at end of file
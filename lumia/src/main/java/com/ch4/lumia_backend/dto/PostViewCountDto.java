@@ -0,0 +1,18 @@
+// src/main/java/com/ch4/lumia_backend/dto/PostViewCountDto.java
+package com.ch4.lumia_backend.dto;
+
+import lombok.Getter;
+
+/**
+ * 게시글 조회수. DB에 반영된 값에 아직 반영 전인 메모리 증분을 더한 값입니다.
+ */
+@Getter
+public class PostViewCountDto {
+    private final Long postId;
+    private final long viewCount;
+
+    public PostViewCountDto(Long postId, long viewCount) {
+        this.postId = postId;
+        this.viewCount = viewCount;
+    }
+}
@@ -0,0 +1,24 @@
+// src/main/java/com/ch4/lumia_backend/dto/ResourceVersion.java
+package com.ch4.lumia_backend.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET(If-None-Match) 판단용 버전 정보. 본문을 조회/직렬화하지 않고 가벼운 쿼리로 만든 ETag입니다.
+ * 댓글 수 변경·댓글 삭제처럼 수정 시각이 앞으로 가지 않는 변경도 있으므로 Last-Modified(If-Modified-Since)는 쓰지 않습니다.
+ */
+@Getter
+public class ResourceVersion {
+    private final String etag;
+
+    public ResourceVersion(String etag) {
+        this.etag = "\"" + etag + "\""; // 강한(strong) ETag
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? -1 : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
\ No newline at end of file
@@ -7,7 +7,8 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity // 이 클래스가 JPA 엔티티임을 나타냅니다.
-@Table(name = "comments") // 데이터베이스의 "comments" 테이블과 매핑됩니다.
+@Table(name = "comments", // 데이터베이스의 "comments" 테이블과 매핑됩니다.
+       indexes = @Index(name = "idx_comments_post_created_id", columnList = "post_id, created_at, id")) // 게시글별 댓글 키셋 페이지네이션
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA는 기본 생성자를 필요로 합니다.
 public class Comment {
 
@@ -30,12 +31,15 @@ public class Comment {
 
     private LocalDateTime createdAt; // 댓글 생성 시간
 
+    private LocalDateTime updatedAt; // 댓글 수정 시간 (댓글 목록 ETag 계산에 사용)
+
     @Builder // 빌더 패턴을 사용하여 객체를 생성할 수 있도록 합니다.
     public Comment(Post post, String userId, String content) {
         this.post = post;
         this.userId = userId;
         this.content = content;
         this.createdAt = LocalDateTime.now(); // 생성 시 현재 시간으로 초기화
+        this.updatedAt = this.createdAt;
     }
 
     /**
@@ -43,5 +47,6 @@ public class Comment {
      */
     public void updateContent(String content) {
         this.content = content;
+        this.updatedAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
@@ -9,10 +9,13 @@ import java.util.List;
 
 @Getter
 @Entity // 이 클래스가 JPA 엔티티임을 나타냅니다.
-@Table(name = "posts") // 데이터베이스의 "posts" 테이블과 매핑됩니다.
+@Table(name = "posts", // 데이터베이스의 "posts" 테이블과 매핑됩니다.
+       indexes = @Index(name = "idx_posts_category_id", columnList = "category, id")) // 카테고리별 최신순 목록
 @NoArgsConstructor(access = AccessLevel.PROTECTED) // JPA는 기본 생성자를 필요로 합니다. protected 접근 수준으로 설정합니다.
 public class Post extends BaseTimeEntity { // 생성 및 수정 시간을 자동으로 관리하는 BaseTimeEntity 상속
 
+    public static final int EXCERPT_LENGTH = 100;
+
     @Id // 기본 키(Primary Key) 필드임을 나타냅니다.
     @GeneratedValue(strategy = GenerationType.IDENTITY) // 데이터베이스가 ID를 자동으로 생성하도록 합니다 (예: auto_increment).
     private Long id;
@@ -23,8 +26,24 @@ public class Post extends BaseTimeEntity { // 생성 및 수정 시간을 자동
     @Column(nullable = false, length = 100) // null 비허용, 최대 길이 100
     private String title; // 게시글 제목
 
-    @Column(nullable = false, length = 255) // null 비허용, 최대 길이 255 (더 긴 내용이 필요하면 @Lob 사용 고려)
-    private String content; // 게시글 내용
+    // 게시글 내용 (TEXT). 목록에서는 읽지 않도록 지연 로딩하며, 실제 지연 로딩은 Hibernate 바이트코드 향상(build.gradle)이 있어야 동작합니다.
+    @Basic(fetch = FetchType.LAZY)
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    // 목록용 미리보기. 작성/수정 시점에 content에서 계산해 저장합니다.
+    @Column(length = EXCERPT_LENGTH + 1)
+    private String excerpt;
+
+    // 댓글 수 (비정규화). 값은 DB에서만 원자적으로 증감하므로 JPA INSERT/UPDATE 대상에서 제외합니다.
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "INT NOT NULL DEFAULT 0")
+    private int commentCount;
+
+    // 조회수. PostViewCounter가 모아서 DB에서 직접 증가시키므로 JPA INSERT/UPDATE 대상에서 제외합니다.
+    @Column(name = "view_count", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+    private long viewCount;
 
     // User 엔티티와의 다대일(N:1) 관계 설정
     @ManyToOne(fetch = FetchType.LAZY) // 지연 로딩(LAZY)으로 설정하여, 실제 author 정보가 필요할 때만 데이터베이스에서 조회합니다.
@@ -43,6 +62,7 @@ public class Post extends BaseTimeEntity { // 생성 및 수정 시간을 자동
         this.category = category;
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
         this.author = author;
     }
 
@@ -64,5 +84,20 @@ public class Post extends BaseTimeEntity { // 생성 및 수정 시간을 자동
         this.category = category;
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
+    }
+
+    /**
+     * 본문 미리보기: 연속 공백/줄바꿈을 한 칸으로 줄이고 EXCERPT_LENGTH자(코드 포인트 기준)를 넘으면 잘라서 "…"를 붙입니다.
+     */
+    public static String excerptOf(String content) {
+        if (content == null) {
+            return null;
+        }
+        String normalized = content.strip().replaceAll("\\s+", " ");
+        if (normalized.codePointCount(0, normalized.length()) <= EXCERPT_LENGTH) {
+            return normalized;
+        }
+        return normalized.substring(0, normalized.offsetByCodePoints(0, EXCERPT_LENGTH)) + "…";
     }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+// src/main/java/com/ch4/lumia_backend/entity/PostCategoryCount.java
+package com.ch4.lumia_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리별 게시글 수.
+ * 게시글 작성/수정/삭제 시 같은 트랜잭션에서 +1/-1로 갱신되므로 조회 시 GROUP BY가 필요 없습니다.
+ */
+@Getter
+@Entity
+@Table(name = "post_category_counts")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostCategoryCount {
+
+    @Id
+    @Column(name = "category") // posts.category와 같은 길이 (255)
+    private String category;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+}
\ No newline at end of file
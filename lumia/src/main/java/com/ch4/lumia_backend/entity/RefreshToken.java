@@ -8,7 +8,12 @@ import lombok.Setter;
 import java.time.Instant; // UTC 기준 시간을 위해 Instant 사용
 
 @Entity
-@Table(name = "refresh_tokens") // 데이터베이스에 생성될 테이블 이름
+@Table(name = "refresh_tokens", // 데이터베이스에 생성될 테이블 이름
+       indexes = {
+           @Index(name = "idx_refresh_tokens_user", columnList = "user_pk_id"),
+           @Index(name = "idx_refresh_tokens_family", columnList = "family_id"),
+           @Index(name = "idx_refresh_tokens_expiry", columnList = "expiry_date") // 만료 토큰 일괄 삭제용
+       })
 @Getter
 @Setter
 @NoArgsConstructor // JPA는 기본 생성자를 필요로 합니다.
@@ -19,24 +24,36 @@ public class RefreshToken {
     @Column(name = "refresh_token_id") // 컬럼명 명시 (선택적)
     private Long id;
 
-    // User 엔티티와 1:1 또는 1:N 관계를 설정합니다.
-    // 일반적으로 한 사용자는 하나의 활성 리프레시 토큰을 가지므로 1:1이 적합할 수 있습니다.
-    // 또는 여러 기기에서 로그인 허용 후 각 리프레시 토큰을 관리하려면 User에 대한 ManyToOne도 가능합니다.
-    // 여기서는 User당 하나의 RefreshToken을 가정하고 OneToOne으로 하겠습니다.
-    @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_pk_id", referencedColumnName = "user_pk_id", nullable = false, unique = true)
+    // 토큰 순환(rotation) 시 이전 토큰 행을 재사용 감지용으로 남겨두므로, 한 사용자가 여러 행을 가질 수 있습니다. (N:1)
+    // 로그인할 때마다 기존 행은 모두 삭제되므로 활성 패밀리는 사용자당 하나입니다.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_pk_id", referencedColumnName = "user_pk_id", nullable = false)
     private User user;
 
-    @Column(name = "token_value", nullable = false, unique = true, length = 1024) // 실제 토큰 문자열 (길이 충분히)
+    // 토큰 원문의 SHA-256 (hex 64자). 원문 대신 고정 길이 다이제스트로만 인덱싱/조회합니다.
+    @Column(name = "token_hash", unique = true, length = 64, columnDefinition = "CHAR(64)")
+    private String tokenHash;
+
+    // 같은 로그인에서 순환되어 이어지는 토큰들의 묶음 ID (UUID). 재사용이 감지되면 패밀리 전체를 폐기합니다.
+    @Column(name = "family_id", length = 36)
+    private String familyId;
+
+    // 이미 새 토큰으로 교체되었거나 폐기된 토큰이면 true
+    @Column(name = "revoked", columnDefinition = "BOOLEAN DEFAULT FALSE")
+    private boolean revoked = false;
+
+    // 발급 직후 클라이언트에게 돌려줄 토큰 원문 (DB에는 저장하지 않음)
+    @Transient
     private String token;
 
     @Column(name = "expiry_date", nullable = false)
     private Instant expiryDate; // 토큰 만료 시간 (UTC 기준)
 
     // 생성자
-    public RefreshToken(User user, String token, Instant expiryDate) {
+    public RefreshToken(User user, String tokenHash, String familyId, Instant expiryDate) {
         this.user = user;
-        this.token = token;
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
         this.expiryDate = expiryDate;
     }
 
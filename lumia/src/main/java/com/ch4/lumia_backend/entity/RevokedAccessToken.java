@@ -0,0 +1,31 @@
+// src/main/java/com/ch4/lumia_backend/entity/RevokedAccessToken.java
+package com.ch4.lumia_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+
+/**
+ * 로그아웃 등으로 만료 전에 폐기된 Access Token 목록.
+ * 요청마다 조회하지 않고, 시작 시와 주기적으로 메모리(AccessTokenRevocationList)에 적재하는 용도입니다.
+ */
+@Entity
+@Table(name = "revoked_access_tokens",
+       indexes = @Index(name = "idx_revoked_access_tokens_expiry", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor // JPA는 기본 생성자를 필요로 합니다.
+public class RevokedAccessToken {
+
+    @Id
+    @Column(name = "jti", length = 36)
+    private String jti; // Access Token의 jti 클레임 (UUID)
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt; // 원래 토큰의 만료 시각. 이 시각이 지나면 행을 삭제해도 됨
+
+    public RevokedAccessToken(String jti, Instant expiresAt) {
+        this.jti = jti;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,21 @@
+// src/main/java/com/ch4/lumia_backend/event/CommentChangedEvent.java
+package com.ch4.lumia_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 댓글이 작성/수정/삭제되었을 때 CommentService가 발행하는 이벤트.
+ * 검색 색인 갱신 등은 @TransactionalEventListener(phase = AFTER_COMMIT)로 커밋 이후에 처리합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Long commentId;
+    private final Long postId;
+    private final String content; // 변경 후 내용 (삭제 시 null)
+    private final Type type;
+}
\ No newline at end of file
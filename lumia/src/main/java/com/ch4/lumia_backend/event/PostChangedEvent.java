@@ -0,0 +1,22 @@
+// src/main/java/com/ch4/lumia_backend/event/PostChangedEvent.java
+package com.ch4.lumia_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글이 작성/수정/삭제되었을 때 PostService가 발행하는 이벤트.
+ * 캐시 무효화 등은 @TransactionalEventListener(phase = AFTER_COMMIT)로 커밋 이후에 처리합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Long postId;
+    private final String category; // 변경 후 카테고리 (삭제 시 삭제된 글의 카테고리)
+    private final String title;    // 변경 후 제목 (삭제 시 null)
+    private final String content;  // 변경 후 내용 (삭제 시 null)
+    private final Type type;
+}
\ No newline at end of file
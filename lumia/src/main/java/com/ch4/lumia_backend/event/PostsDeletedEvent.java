@@ -0,0 +1,17 @@
+// src/main/java/com/ch4/lumia_backend/event/PostsDeletedEvent.java
+package com.ch4.lumia_backend.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 삭제(PostService.deletePosts)로 여러 게시글이 한 번에 삭제되었을 때 발행하는 이벤트.
+ * 글마다 PostChangedEvent(DELETED)를 보내면 캐시 무효화와 SSE 알림이 글 수만큼 반복되므로 ID 목록을 하나로 묶어 보냅니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostsDeletedEvent {
+    private final List<Long> postIds;
+}
@@ -0,0 +1,12 @@
+// src/main/java/com/ch4/lumia_backend/exception/InvalidRefreshTokenException.java
+package com.ch4.lumia_backend.exception;
+
+/**
+ * 리프레시 토큰이 없거나, 만료되었거나, 이미 사용(순환)된 토큰일 때 던지는 예외.
+ */
+public class InvalidRefreshTokenException extends RuntimeException {
+
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,28 @@
+// src/main/java/com/ch4/lumia_backend/exception/TooManyRequestsException.java
+package com.ch4.lumia_backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 서버가 요청을 지금 처리할 여유가 없을 때 (429 Too Many Requests) 던지는 예외.
+ * 컨트롤러에서 잡지 않으면 @ResponseStatus에 의해 429로 응답됩니다.
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds; // Retry-After 헤더 값
+
+    public TooManyRequestsException(String message) {
+        this(message, 1);
+    }
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
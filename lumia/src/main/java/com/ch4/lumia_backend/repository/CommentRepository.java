@@ -1,13 +1,61 @@
 package com.ch4.lumia_backend.repository;
 
+import com.ch4.lumia_backend.dto.CommentResponseDto;
 import com.ch4.lumia_backend.entity.Comment;
 import com.ch4.lumia_backend.entity.Post;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByPostOrderByCreatedAtAsc(Post post);
+
+    // 조건부 GET용 댓글 목록 버전 정보: 추가/삭제는 개수·최대 ID로, 수정은 최종 수정 시각으로 감지
+    interface CommentListVersionView {
+        long getTotal();
+        Long getMaxId();
+        LocalDateTime getLastModified();
+    }
+
+    @Query("SELECT COUNT(c) AS total, MAX(c.id) AS maxId, MAX(COALESCE(c.updatedAt, c.createdAt)) AS lastModified "
+         + "FROM Comment c WHERE c.post.id = :postId")
+    CommentListVersionView findVersionByPostId(@Param("postId") Long postId);
+
+    // 게시글 상세 화면용 첫 페이지 댓글 (post_id만 비교하므로 posts 조인 없음)
+    @Query("SELECT new com.ch4.lumia_backend.dto.CommentResponseDto(c.id, c.content, c.createdAt, c.userId) "
+         + "FROM Comment c WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentResponseDto> findCommentResponsesByPostId(@Param("postId") Long postId, Pageable pageable);
+
+    // 게시글 삭제용 집합 단위 삭제: 댓글을 엔티티로 읽지 않고 DELETE 한 번으로 처리 (post_id 인덱스 사용)
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.post.id IN :postIds")
+    int deleteAllByPostIds(@Param("postIds") Collection<Long> postIds);
+
+    // 키셋 페이지네이션: (post_id, created_at, id) 인덱스 범위 스캔. 결과는 Stream으로 받아 한 건씩 직렬화합니다.
+    // 호출하는 쪽에서 트랜잭션 안에서 사용하고 반드시 close 해야 합니다.
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "100"))
+    @Query("SELECT new com.ch4.lumia_backend.dto.CommentResponseDto(c.id, c.content, c.createdAt, c.userId) "
+         + "FROM Comment c WHERE c.post.id = :postId ORDER BY c.createdAt ASC, c.id ASC")
+    Stream<CommentResponseDto> streamCommentResponses(@Param("postId") Long postId, Pageable limit);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "100"))
+    @Query("SELECT new com.ch4.lumia_backend.dto.CommentResponseDto(c.id, c.content, c.createdAt, c.userId) "
+         + "FROM Comment c WHERE c.post.id = :postId "
+         + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) "
+         + "ORDER BY c.createdAt ASC, c.id ASC")
+    Stream<CommentResponseDto> streamCommentResponsesAfter(@Param("postId") Long postId,
+                                                           @Param("createdAt") LocalDateTime createdAt,
+                                                           @Param("id") Long id,
+                                                           Pageable limit);
 }
@@ -0,0 +1,27 @@
+// src/main/java/com/ch4/lumia_backend/repository/PostCategoryCountRepository.java
+package com.ch4.lumia_backend.repository;
+
+import com.ch4.lumia_backend.dto.CategoryCountDto;
+import com.ch4.lumia_backend.entity.PostCategoryCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PostCategoryCountRepository extends JpaRepository<PostCategoryCount, String> {
+
+    // 카테고리 행이 없으면 만들고, 있으면 delta만큼 더함 (MariaDB upsert, 행 단위 락만 사용)
+    @Modifying
+    @Query(value = "INSERT INTO post_category_counts (category, post_count) VALUES (:category, GREATEST(:delta, 0)) "
+                 + "ON DUPLICATE KEY UPDATE post_count = GREATEST(post_count + :delta, 0)",
+           nativeQuery = true)
+    int addToCount(@Param("category") String category, @Param("delta") long delta);
+
+    @Query("SELECT new com.ch4.lumia_backend.dto.CategoryCountDto(c.category, c.postCount) "
+         + "FROM PostCategoryCount c WHERE c.postCount > 0 ORDER BY c.category")
+    List<CategoryCountDto> findCategoryCounts();
+}
\ No newline at end of file
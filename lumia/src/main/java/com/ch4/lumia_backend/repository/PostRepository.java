@@ -3,11 +3,99 @@
 package com.ch4.lumia_backend.repository;
 
 import com.ch4.lumia_backend.entity.Post;
+import com.ch4.lumia_backend.dto.PostResponseDto;
+import com.ch4.lumia_backend.dto.PostSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PostRepository extends JpaRepository<Post, Long> {
+    // 상세 조회 전용 쿼리: 작성자 로그인 ID를 같은 SELECT에서 조인해 DTO로 바로 반환 (행마다 users 조회 없음)
+    String POST_RESPONSE_SELECT = "SELECT new com.ch4.lumia_backend.dto.PostResponseDto("
+            + "p.id, p.category, p.title, p.content, p.createdAt, a.userId, p.commentCount) "
+            + "FROM Post p JOIN p.author a ";
+
+    // 목록/검색용 요약: 본문(content) 대신 excerpt 컬럼만 읽음
+    String POST_SUMMARY_SELECT = "SELECT new com.ch4.lumia_backend.dto.PostSummaryDto("
+            + "p.id, p.category, p.title, p.excerpt, p.createdAt, a.userId, p.commentCount) "
+            + "FROM Post p JOIN p.author a ";
+
+    // 페이지 번호 방식 목록 (정렬은 Pageable로 지정)
+    @Query(value = POST_SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummaryDto> findPostSummaries(Pageable pageable);
+
+    // 커서 방식 목록: PK 인덱스 범위 스캔 (id < before ORDER BY id DESC LIMIT n), COUNT 쿼리 없음
+    @Query(POST_SUMMARY_SELECT + "WHERE p.id < :before ORDER BY p.id DESC")
+    List<PostSummaryDto> findPostSummariesBefore(@Param("before") Long before, Pageable limit);
+
+    // 카테고리별 목록: (category, id) 복합 인덱스 사용
+    @Query(value = POST_SUMMARY_SELECT + "WHERE p.category = :category",
+           countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category = :category")
+    Page<PostSummaryDto> findPostSummariesByCategory(@Param("category") String category, Pageable pageable);
+
+    @Query(POST_SUMMARY_SELECT + "WHERE p.category = :category AND p.id < :before ORDER BY p.id DESC")
+    List<PostSummaryDto> findPostSummariesByCategoryBefore(@Param("category") String category,
+                                                            @Param("before") Long before, Pageable limit);
+
+    // 검색 결과 조회 (순서는 호출하는 쪽에서 맞춤)
+    @Query(POST_SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummaryDto> findPostSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // 댓글 작성/삭제 시 댓글 수를 한 문장으로 증감 (읽고-쓰기 경쟁 없음)
+    @Modifying
+    @Query(value = "UPDATE posts SET comment_count = GREATEST(comment_count + :delta, 0) WHERE id = :postId",
+           nativeQuery = true)
+    int addToCommentCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    // 조건부 GET용 버전 정보 (본문 컬럼은 읽지 않음)
+    interface PostVersionView {
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+        int getCommentCount();
+    }
+
+    @Query("SELECT p.createdAt AS createdAt, p.updatedAt AS updatedAt, p.commentCount AS commentCount "
+         + "FROM Post p WHERE p.id = :id")
+    Optional<PostVersionView> findVersionById(@Param("id") Long id);
+
+    // DB에 반영된 조회수 (PostViewCounter에 쌓여 있는 미반영분은 제외)
+    @Query("SELECT p.viewCount FROM Post p WHERE p.id = :id")
+    Optional<Long> findViewCountById(@Param("id") Long id);
+
+    // 삭제 전 권한 확인·카테고리 집계용 (게시글 엔티티와 댓글 컬렉션을 영속성 컨텍스트에 올리지 않음)
+    interface PostDeleteView {
+        Long getId();
+        Long getAuthorId();
+        String getCategory();
+    }
+
+    // SELECT ... FOR UPDATE: 같은 글의 동시 삭제, 카테고리 수정, 댓글 작성(FK 공유 잠금)이 이 트랜잭션이 끝날 때까지 기다리므로
+    // 읽은 행 = 실제로 삭제할 행이 되어 카테고리 수가 두 번 빠지거나 옛 카테고리에서 빠지지 않음. 호출하는 쪽 트랜잭션 안에서만 사용
+    @Query(value = "SELECT id AS id, user_pk_id AS authorId, category AS category FROM posts "
+                 + "WHERE id IN (:ids) ORDER BY id FOR UPDATE",
+           nativeQuery = true)
+    List<PostDeleteView> findDeleteViewsByIdsForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 집합 단위 삭제. 댓글은 CommentRepository.deleteAllByPostIds 로 먼저 지워야 합니다 (FK).
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Post p WHERE p.id IN :ids")
+    int deleteAllByIds(@Param("ids") Collection<Long> ids);
+
+    // 상세 조회
+    @Query(POST_RESPONSE_SELECT + "WHERE p.id = :id")
+    Optional<PostResponseDto> findPostResponseById(@Param("id") Long id);
+
     // 필요 시: 특정 작성자의 게시글만 조회
     // Page<Post> findAllByAuthor(User user, Pageable pageable);
 }
@@ -11,12 +11,16 @@ import java.util.List;
 public interface QuestionRepository extends JpaRepository<Question, Long> {
 
     // 특정 타입의 활성화된 질문 중 랜덤하게 하나 가져오기 (MySQL/MariaDB용 RAND())
+    // 평소에는 QuestionPoolService가 메모리에서 선택하며, 풀에 해당 타입이 없을 때만 사용됩니다.
     @Query(value = "SELECT * FROM questions WHERE question_type = :questionType AND is_active = true ORDER BY RAND() LIMIT 1", nativeQuery = true)
     Optional<Question> findRandomActiveQuestionByType(@Param("questionType") String questionType);
 
     // 활성화된 특정 타입의 모든 질문 가져오기 (선택적)
     List<Question> findByQuestionTypeAndIsActiveTrue(String questionType);
 
+    // 질문 풀 구성용: 활성화된 모든 질문
+    List<Question> findByIsActiveTrue();
+
     // 기본 대체 질문 (가장 최근에 추가된 활성 질문)
     Optional<Question> findFirstByIsActiveTrueOrderByIdDesc();
 }
\ No newline at end of file
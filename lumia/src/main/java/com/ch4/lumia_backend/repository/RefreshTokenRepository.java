@@ -4,13 +4,35 @@ package com.ch4.lumia_backend.repository;
 import com.ch4.lumia_backend.entity.RefreshToken;
 import com.ch4.lumia_backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByToken(String token);
-    Optional<RefreshToken> findByUser(User user);
+    // token_hash(CHAR(64)) unique 인덱스로 조회
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
     void deleteByUser(User user); // <--- 반환 타입이 void 입니다.
+
+    // 아직 사용되지 않은 토큰만 사용 처리 (동시에 같은 토큰으로 갱신 요청이 와도 한 쪽만 1을 반환)
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.id = :id AND r.revoked = false")
+    int markRotated(@Param("id") Long id);
+
+    // 재사용이 감지된 패밀리 전체를 한 번의 UPDATE로 폐기 (family_id 인덱스 사용)
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revoked = true WHERE r.familyId = :familyId AND r.revoked = false")
+    int revokeFamily(@Param("familyId") String familyId);
+
+    // 만료 토큰을 최대 limit 건만 삭제 (expiry_date 인덱스 사용). 호출마다 별도 트랜잭션으로 커밋되어 락을 짧게 유지
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM refresh_tokens WHERE expiry_date < :now LIMIT :limit", nativeQuery = true)
+    int deleteExpiredBatch(@Param("now") Instant now, @Param("limit") int limit);
 }
\ No newline at end of file
@@ -3,6 +3,11 @@ package com.ch4.lumia_backend.repository;
 
 import com.ch4.lumia_backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -11,4 +16,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 이메일로 사용자를 찾는 메소드 추가
     Optional<User> findByEmail(String email);
+
+    // 해시를 읽은 뒤 다른 요청이 비밀번호를 바꾸지 않았을 때만 교체 (BCrypt 계산은 트랜잭션 밖에서 끝난 상태)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordIfUnchanged(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+// src/main/java/com/ch4/lumia_backend/security/BCryptWorkFactorCalibrator.java
+package com.ch4.lumia_backend.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 현재 하드웨어에서 BCrypt 해시 한 번이 목표 시간에 가장 가깝게(넘지 않게) 걸리는 cost(strength)를 찾습니다.
+ * cost가 1 오를 때마다 시간이 약 2배가 되므로, 최소 cost에서 측정한 시간으로 목표 cost를 추정한 뒤
+ * 해당 cost에서 다시 측정해 목표를 넘으면 한 단계씩 낮춥니다.
+ */
+public final class BCryptWorkFactorCalibrator {
+
+    private static final Logger logger = LoggerFactory.getLogger(BCryptWorkFactorCalibrator.class);
+
+    private static final String SAMPLE_PASSWORD = "calibration-Sample-Password-1234";
+
+    private BCryptWorkFactorCalibrator() {
+    }
+
+    /**
+     * @param targetMillis 해시 한 번에 허용할 목표 시간 (ms)
+     * @param minStrength 이보다 낮은 cost는 사용하지 않음 (보안 하한)
+     * @param maxStrength 이보다 높은 cost는 사용하지 않음
+     * @return 선택된 cost
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        int min = Math.max(4, minStrength);
+        int max = Math.min(31, Math.max(min, maxStrength));
+
+        long baseMillis = measure(min);
+        int strength = min;
+        if (baseMillis > 0) {
+            double steps = Math.log((double) targetMillis / baseMillis) / Math.log(2);
+            strength = (int) Math.max(min, Math.min(max, min + Math.floor(steps)));
+        } else {
+            strength = Math.min(max, min + 1);
+        }
+
+        long measuredMillis = strength == min ? baseMillis : measure(strength);
+        while (strength > min && measuredMillis > targetMillis) {
+            strength--;
+            measuredMillis = measure(strength);
+        }
+
+        logger.info("BCrypt work factor calibrated: strength={}, measured hash time={} ms (target {} ms, allowed range {}-{}).",
+                    strength, measuredMillis, targetMillis, min, max);
+        return strength;
+    }
+
+    // 첫 실행(JIT 워밍업)은 버리고, 두 번 측정한 값 중 작은 값을 사용
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+        return best;
+    }
+}
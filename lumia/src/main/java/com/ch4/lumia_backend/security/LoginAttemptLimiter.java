@@ -0,0 +1,132 @@
+// src/main/java/com/ch4/lumia_backend/security/LoginAttemptLimiter.java
+package com.ch4.lumia_backend.security;
+
+import com.ch4.lumia_backend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 로그인 시도 횟수 제한 (IP별, 아이디+IP별 슬라이딩 윈도우).
+ * 비밀번호 검증(BCrypt)과 DB 조회 전에 호출되어, 한도를 넘은 요청은 바로 429로 거절합니다.
+ * 아이디 한도는 아이디+IP 조합으로 세므로, 다른 IP에서 남의 아이디로 틀린 시도를 반복해도 본인 로그인은 막히지 않습니다.
+ * 거절된 시도는 횟수에 더하지 않아서, 계속 두드려도 차단이 윈도우 시간 이상 연장되지 않습니다.
+ * 윈도우는 고정 개수의 버킷으로 나눈 근사 슬라이딩 윈도우이며, 버킷은 Atomic 배열이라 락 없이 갱신됩니다.
+ * 일정 시간 시도가 없는 키는 주기 작업에서 제거합니다.
+ *
+ * IP는 HttpServletRequest.getRemoteAddr() 값입니다. 리버스 프록시/로드밸런서 뒤에서 운영할 때는
+ * server.forward-headers-strategy(native 또는 framework)를 설정해야 X-Forwarded-For의 클라이언트 IP가 들어오며,
+ * 설정하지 않으면 모든 요청이 프록시 IP 하나로 묶여 IP 한도를 함께 쓰게 됩니다.
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptLimiter.class);
+
+    private static final int BUCKETS = 10;
+
+    private final Map<String, SlidingWindow> attemptsByLoginIdAndIp = new ConcurrentHashMap<>();
+    private final Map<String, SlidingWindow> attemptsByIp = new ConcurrentHashMap<>();
+
+    private final int maxAttemptsPerLoginId;
+    private final int maxAttemptsPerIp;
+    private final long windowMillis;
+    private final long bucketMillis;
+    private final Counter rejectedCounter;
+
+    public LoginAttemptLimiter(@Value("${login.throttle.max-attempts-per-id:10}") int maxAttemptsPerLoginId,
+                               @Value("${login.throttle.max-attempts-per-ip:50}") int maxAttemptsPerIp,
+                               @Value("${login.throttle.window-seconds:300}") long windowSeconds,
+                               MeterRegistry meterRegistry) {
+        this.maxAttemptsPerLoginId = maxAttemptsPerLoginId;
+        this.maxAttemptsPerIp = maxAttemptsPerIp;
+        this.windowMillis = Math.max(BUCKETS, windowSeconds * 1000);
+        this.bucketMillis = this.windowMillis / BUCKETS;
+
+        this.rejectedCounter = Counter.builder("login.throttle.rejected")
+                .description("Login attempts rejected by the per-id/per-ip limiter")
+                .register(meterRegistry);
+        Gauge.builder("login.throttle.tracked.keys", this, limiter -> limiter.attemptsByLoginIdAndIp.size() + limiter.attemptsByIp.size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도를 기록하고, IP 또는 아이디+IP가 한도에 도달했으면 기록하지 않고 예외를 던집니다.
+     * @throws TooManyRequestsException 윈도우 내 시도 횟수가 이미 한도에 도달한 경우
+     */
+    public void acquire(String loginId, String clientIp) {
+        long now = System.currentTimeMillis();
+        if (clientIp != null && !tryRecord(attemptsByIp, clientIp, maxAttemptsPerIp, now)) {
+            reject("ip", clientIp);
+        }
+        if (loginId != null && !tryRecord(attemptsByLoginIdAndIp, loginId + "|" + clientIp, maxAttemptsPerLoginId, now)) {
+            reject("loginId", loginId);
+        }
+    }
+
+    private boolean tryRecord(Map<String, SlidingWindow> windows, String key, int maxAttempts, long now) {
+        return windows.computeIfAbsent(key, k -> new SlidingWindow()).tryIncrement(now / bucketMillis, now, maxAttempts);
+    }
+
+    private void reject(String type, String key) {
+        rejectedCounter.increment();
+        logger.warn("Too many login attempts by {}: {}", type, key);
+        throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                                           Math.max(1, bucketMillis / 1000));
+    }
+
+    /**
+     * 윈도우 시간 동안 시도가 없었던 키를 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${login.throttle.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long threshold = System.currentTimeMillis() - windowMillis;
+        attemptsByLoginIdAndIp.values().removeIf(window -> window.lastAccessMillis < threshold);
+        attemptsByIp.values().removeIf(window -> window.lastAccessMillis < threshold);
+    }
+
+    /**
+     * BUCKETS개의 버킷을 원형으로 재사용하는 카운터.
+     * 버킷마다 어느 시간 구간(epoch)의 값인지 기록해두고, 오래된 버킷은 재사용 시 0으로 초기화합니다.
+     * 버킷 초기화와 증가가 동시에 일어나면 몇 건이 빠지거나 한도를 조금 넘을 수 있지만, 제한 용도로는 충분한 근사치입니다.
+     */
+    private static final class SlidingWindow {
+        private final AtomicLongArray bucketEpochs = new AtomicLongArray(BUCKETS);
+        private final AtomicIntegerArray counts = new AtomicIntegerArray(BUCKETS);
+        private volatile long lastAccessMillis;
+
+        /**
+         * 윈도우 합계가 한도 미만일 때만 현재 버킷을 1 증가시킵니다. 한도에 도달했으면 기록 없이 false.
+         */
+        private boolean tryIncrement(long epoch, long now, int maxAttempts) {
+            lastAccessMillis = now;
+            int slot = (int) (epoch % BUCKETS);
+            long slotEpoch = bucketEpochs.get(slot);
+            if (slotEpoch != epoch && bucketEpochs.compareAndSet(slot, slotEpoch, epoch)) {
+                counts.set(slot, 0);
+            }
+
+            int sum = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                if (bucketEpochs.get(i) > epoch - BUCKETS) {
+                    sum += counts.get(i);
+                }
+            }
+            if (sum >= maxAttempts) {
+                return false;
+            }
+            counts.incrementAndGet(slot);
+            return true;
+        }
+    }
+}
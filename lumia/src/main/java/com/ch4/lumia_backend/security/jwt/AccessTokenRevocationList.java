@@ -0,0 +1,211 @@
+// src/main/java/com/ch4/lumia_backend/security/jwt/AccessTokenRevocationList.java
+package com.ch4.lumia_backend.security.jwt;
+
+import com.ch4.lumia_backend.entity.RevokedAccessToken;
+import com.ch4.lumia_backend.repository.RevokedAccessTokenRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 만료 전에 폐기된 Access Token의 jti 목록.
+ * 요청 경로에서는 메모리의 Bloom 필터만 먼저 확인하므로, 폐기되지 않은 토큰(대부분의 요청)은 DB 조회 없이 통과합니다.
+ * Bloom 필터가 "있을 수도 있음"이라고 답한 경우에만 정확한 목록(jti → exp)을 확인합니다.
+ * 폐기 목록은 DB(revoked_access_tokens)에도 저장되어 재시작 후 복원되고, 주기적으로 다시 읽어 다른 인스턴스의 폐기도 반영합니다.
+ */
+@Component
+public class AccessTokenRevocationList {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccessTokenRevocationList.class);
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final int expectedEntries;
+
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>(); // jti → 만료 시각(ms)
+    private volatile BloomFilter bloomFilter;
+
+    private final LongAdder bloomPositives = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    public AccessTokenRevocationList(RevokedAccessTokenRepository revokedAccessTokenRepository,
+                                     @Value("${jwt.revocation.expected-entries:10000}") int expectedEntries,
+                                     MeterRegistry meterRegistry) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.expectedEntries = Math.max(1, expectedEntries);
+        this.bloomFilter = new BloomFilter(this.expectedEntries, FALSE_POSITIVE_RATE);
+
+        Gauge.builder("jwt.revocation.size", revoked, Map::size)
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.revocation.bloom.positives", bloomPositives, LongAdder::sum)
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.revocation.bloom.false.positives", falsePositives, LongAdder::sum)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void loadFromDatabase() {
+        refresh();
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다. jti가 없는 (이전 버전) 토큰은 폐기할 수 없으므로 항상 false.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        bloomPositives.increment();
+        Long expiresAtMillis = revoked.get(jti);
+        if (expiresAtMillis == null) {
+            falsePositives.increment();
+            return false;
+        }
+        return expiresAtMillis > System.currentTimeMillis();
+    }
+
+    /**
+     * 토큰을 폐기합니다. 메모리에 즉시 반영한 뒤 DB에 저장합니다.
+     * @param jti 토큰 ID
+     * @param expiresAt 토큰의 원래 만료 시각 (이후에는 목록에서 제거됨)
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        synchronized (this) {
+            revoked.put(jti, expiresAt.toEpochMilli());
+            bloomFilter.put(jti);
+        }
+        try {
+            revokedAccessTokenRepository.save(new RevokedAccessToken(jti, expiresAt));
+        } catch (Exception e) {
+            // 메모리에는 이미 반영되었으므로 이 인스턴스에서는 계속 거부됨
+            logger.error("Failed to persist revoked access token {}: {}", jti, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 만료된 항목을 정리하고 DB의 폐기 목록을 다시 읽어 Bloom 필터를 새로 만듭니다.
+     * 만료 항목이 빠지므로 Bloom 필터의 오탐률도 다시 낮아집니다.
+     */
+    @Scheduled(initialDelayString = "${jwt.revocation.refresh-interval-ms:60000}",
+               fixedDelayString = "${jwt.revocation.refresh-interval-ms:60000}")
+    public void refresh() {
+        Instant now = Instant.now();
+        List<RevokedAccessToken> active;
+        try {
+            int purged = revokedAccessTokenRepository.deleteExpired(now);
+            active = revokedAccessTokenRepository.findByExpiresAtAfter(now);
+            if (purged > 0) {
+                logger.debug("Deleted {} expired revoked access token row(s).", purged);
+            }
+        } catch (Exception e) {
+            logger.error("Failed to reload revoked access tokens: {}", e.getMessage(), e);
+            active = List.of();
+        }
+
+        synchronized (this) {
+            for (RevokedAccessToken token : active) {
+                revoked.put(token.getJti(), token.getExpiresAt().toEpochMilli());
+            }
+            long nowMillis = now.toEpochMilli();
+            revoked.values().removeIf(expiresAtMillis -> expiresAtMillis <= nowMillis);
+
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2), FALSE_POSITIVE_RATE);
+            revoked.keySet().forEach(rebuilt::put);
+            this.bloomFilter = rebuilt;
+        }
+        logger.debug("Access token revocation list refreshed: {} active entries.", revoked.size());
+    }
+
+    public int size() {
+        return revoked.size();
+    }
+
+    /**
+     * 락 없이 읽을 수 있는 고정 크기 Bloom 필터 (비트 배열은 AtomicLongArray).
+     * 해시 함수 k개는 64비트 해시 두 개를 조합해서 만듭니다 (h1 + i * h2).
+     */
+    private static final class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        private BloomFilter(int expectedEntries, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedEntries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            int words = (int) Math.max(1, (m + 63) / 64);
+            this.bits = new AtomicLongArray(words);
+            this.bitCount = (long) words * 64;
+            this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedEntries * Math.log(2)));
+        }
+
+        private void put(String value) {
+            long h1 = hash(value);
+            long h2 = secondHash(h1);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(h1 + i * h2, bitCount);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                do {
+                    current = bits.get(word);
+                    if ((current & mask) != 0) {
+                        break;
+                    }
+                } while (!bits.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        private boolean mightContain(String value) {
+            long h1 = hash(value);
+            long h2 = secondHash(h1);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Math.floorMod(h1 + i * h2, bitCount);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // FNV-1a 64비트
+        private static long hash(String value) {
+            long h = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                h ^= value.charAt(i);
+                h *= 0x100000001b3L;
+            }
+            return mix(h);
+        }
+
+        // 두 번째 해시는 홀수로 만들어 0이 되지 않게 함 (h1은 최하위 비트까지 그대로 사용)
+        private static long secondHash(long h1) {
+            return mix(h1) | 1L;
+        }
+
+        // MurmurHash3 fmix64 (비트를 고르게 섞기 위함)
+        private static long mix(long h) {
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+}
@@ -2,6 +2,7 @@
 // 이 파일은 직접 생성하고 내용을 채워야 합니다. 아래는 매우 기본적인 골격 예시입니다.
 package com.ch4.lumia_backend.security.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,16 +15,22 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.time.Instant;
 import org.springframework.security.core.Authentication; // 추가
 import org.springframework.security.core.context.SecurityContextHolder; // 추가
 import java.util.Collections; // 추가
+import java.util.List;
+import java.util.Optional;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken; // 추가
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final AccessTokenRevocationList accessTokenRevocationList;
     // private final UserDetailsService userDetailsService; // 사용자 정보를 DB에서 직접 조회할 경우 필요
 
     @Override
@@ -31,13 +38,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
         try {
             String jwt = resolveToken(request);
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) { // validateToken 구현 필요
-                String userId = jwtUtil.getUserIdFromToken(jwt); // getUserIdFromToken 구현 필요
+            if (StringUtils.hasText(jwt)) {
+                // 서명 검증과 Claims 추출을 한 번에 처리 (검증된 토큰은 캐시에서 바로 반환)
+                Optional<Claims> claims = jwtUtil.verifyAndGetClaims(jwt);
+                // 폐기 여부는 메모리의 Bloom 필터로 먼저 확인 (DB 조회 없음)
+                if (claims.isPresent() && accessTokenRevocationList.isRevoked(claims.get().getId())) {
+                    logger.debug("Rejected revoked access token for user: " + claims.get().getSubject());
+                } else if (claims.isPresent()) {
+                    JwtUserPrincipal principal = toPrincipal(claims.get());
 
-                // 실제로는 UserDetailsService를 통해 UserDetails 객체를 로드하고 권한을 설정해야 함
-                // 여기서는 간단히 userId를 Principal로 하는 Authentication 객체 생성
-                Authentication authentication = new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList()); // 사용자 ID, 비밀번호(null), 권한 목록
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                    // DB 조회 없이 토큰 클레임(PK, 권한)만으로 Principal과 권한 목록을 구성
+                    Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null, toAuthorities(principal)); // Principal, 비밀번호(null), 권한 목록
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
         } catch (Exception e) {
             // 로깅 또는 특정 예외 처리
@@ -50,6 +63,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private JwtUserPrincipal toPrincipal(Claims claims) {
+        // 이전 버전 토큰에는 uid/role 클레임이 없으므로 null일 수 있음
+        Long userPkId = claims.get(JwtUtil.CLAIM_USER_PK, Long.class);
+        String role = claims.get(JwtUtil.CLAIM_ROLE, String.class);
+        Instant expiresAt = claims.getExpiration() != null ? claims.getExpiration().toInstant() : null;
+        return new JwtUserPrincipal(userPkId, claims.getSubject(), role, claims.getId(), expiresAt);
+    }
+
+    private List<GrantedAuthority> toAuthorities(JwtUserPrincipal principal) {
+        if (!StringUtils.hasText(principal.getRole())) {
+            return Collections.emptyList();
+        }
+        return List.of(new SimpleGrantedAuthority(principal.getRole()));
+    }
+
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
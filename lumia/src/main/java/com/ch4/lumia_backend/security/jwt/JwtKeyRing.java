@@ -0,0 +1,185 @@
+// src/main/java/com/ch4/lumia_backend/security/jwt/JwtKeyRing.java
+package com.ch4.lumia_backend.security.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.MacAlgorithm;
+import io.jsonwebtoken.security.SecurityException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * JWT 서명/검증 키 모음.
+ * 토큰 헤더의 kid로 검증 키를 미리 만들어 둔 Map에서 바로 찾으므로, 키를 교체해도 이전 키로 서명된 토큰은
+ * 만료될 때까지 계속 유효합니다 (키 교체 시 전체 재로그인이 발생하지 않음).
+ * kid가 없는 토큰(이 기능 이전에 발급된 토큰)은 jwt.secret.key로 만든 기본 키로 검증합니다.
+ */
+@Component
+public class JwtKeyRing extends LocatorAdapter<Key> {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    public static final String LEGACY_KID = "default";
+
+    // 간단한 Base64 형식 체크를 위한 정규표현식 (엄밀한 검사는 아님)
+    private static final Pattern BASE64_PATTERN = Pattern.compile("^[A-Za-z0-9+/]*={0,2}$");
+
+    private final Map<String, Key> verificationKeys; // kid → SecretKey 또는 PublicKey (읽기 전용)
+    private final String activeKid;
+    private final UnaryOperator<JwtBuilder> activeSigner;
+
+    public JwtKeyRing(JwtKeyRingProperties properties,
+                      @Value("${jwt.secret.key:YourVeryLongAndSecureSecretKeyForLumiaAppReplaceThis}") String legacySecret) {
+        Map<String, Key> keys = new HashMap<>();
+        Map<String, UnaryOperator<JwtBuilder>> signers = new HashMap<>();
+
+        // 기존 jwt.secret.key는 기본 kid로 등록 (같은 kid가 설정되어 있으면 설정값 우선)
+        if (!properties.getKeys().containsKey(LEGACY_KID)) {
+            SecretKey legacyKey = hmacKey(legacySecret);
+            keys.put(LEGACY_KID, legacyKey);
+            signers.put(LEGACY_KID, builder -> builder.signWith(legacyKey));
+        }
+
+        properties.getKeys().forEach((kid, keyProperties) -> register(kid, keyProperties, keys, signers));
+
+        this.activeKid = StringUtils.hasText(properties.getActiveKid()) ? properties.getActiveKid() : LEGACY_KID;
+        UnaryOperator<JwtBuilder> signer = signers.get(activeKid);
+        if (signer == null) {
+            throw new IllegalStateException("JWT active kid '" + activeKid + "' has no signing key configured.");
+        }
+        this.activeSigner = signer;
+        this.verificationKeys = Map.copyOf(keys);
+
+        logger.info("JWT key ring loaded: activeKid={}, verificationKids={}", activeKid, verificationKeys.keySet());
+    }
+
+    /**
+     * 현재 활성 키로 서명합니다. 헤더에 kid를 넣어 검증 시 키를 바로 찾을 수 있도록 합니다.
+     */
+    public JwtBuilder sign(JwtBuilder builder) {
+        return activeSigner.apply(builder.header().keyId(activeKid).and());
+    }
+
+    public String getActiveKid() {
+        return activeKid;
+    }
+
+    @Override
+    protected Key locate(JwsHeader header) {
+        String kid = header.getKeyId();
+        Key key = verificationKeys.get(kid != null ? kid : LEGACY_KID);
+        if (key == null) {
+            throw new SecurityException("Unknown JWT key id: " + kid);
+        }
+        return key;
+    }
+
+    private void register(String kid, JwtKeyRingProperties.KeyProperties keyProperties,
+                          Map<String, Key> keys, Map<String, UnaryOperator<JwtBuilder>> signers) {
+        String algorithm = keyProperties.getAlgorithm() == null ? "HS256" : keyProperties.getAlgorithm().trim();
+        try {
+            switch (algorithm.toUpperCase()) {
+                case "HS256", "HS384", "HS512" -> {
+                    MacAlgorithm macAlgorithm = switch (algorithm.toUpperCase()) {
+                        case "HS384" -> Jwts.SIG.HS384;
+                        case "HS512" -> Jwts.SIG.HS512;
+                        default -> Jwts.SIG.HS256;
+                    };
+                    SecretKey secretKey = hmacKey(keyProperties.getSecret());
+                    // 키 길이가 알고리즘에 못 미치면 첫 서명 때가 아니라 시작 시점에 실패하도록 여기서 확인
+                    int keyBits = secretKey.getEncoded().length * 8;
+                    if (keyBits < macAlgorithm.getKeyBitLength()) {
+                        throw new IllegalArgumentException(macAlgorithm.getId() + " requires a secret of at least "
+                                + macAlgorithm.getKeyBitLength() / 8 + " bytes, but got " + keyBits / 8);
+                    }
+                    keys.put(kid, secretKey);
+                    signers.put(kid, builder -> builder.signWith(secretKey, macAlgorithm));
+                }
+                case "ES256" -> {
+                    keys.put(kid, publicKey("EC", keyProperties.getPublicKey()));
+                    if (StringUtils.hasText(keyProperties.getPrivateKey())) {
+                        PrivateKey privateKey = privateKey("EC", keyProperties.getPrivateKey());
+                        signers.put(kid, builder -> builder.signWith(privateKey, Jwts.SIG.ES256));
+                    }
+                }
+                case "EDDSA", "ED25519" -> {
+                    keys.put(kid, publicKey("Ed25519", keyProperties.getPublicKey()));
+                    if (StringUtils.hasText(keyProperties.getPrivateKey())) {
+                        PrivateKey privateKey = privateKey("Ed25519", keyProperties.getPrivateKey());
+                        signers.put(kid, builder -> builder.signWith(privateKey, Jwts.SIG.EdDSA));
+                    }
+                }
+                default -> throw new IllegalStateException("Unsupported JWT algorithm '" + algorithm + "' for kid " + kid);
+            }
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid JWT key configuration for kid " + kid + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static SecretKey hmacKey(String secret) {
+        if (!StringUtils.hasText(secret)) {
+            throw new IllegalArgumentException("HMAC secret is empty");
+        }
+        byte[] keyBytes;
+        if (isBase64(secret)) {
+            try {
+                keyBytes = Base64.getDecoder().decode(secret);
+            } catch (IllegalArgumentException e) {
+                logger.warn("Failed to Base64 decode JWT Secret Key, treating as plain string (UTF-8). " +
+                            "Ensure it meets length requirements for the algorithm.", e);
+                keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+            }
+        } else {
+            logger.info("JWT Secret Key is not Base64 encoded. Using plain string bytes (UTF-8). " +
+                        "Ensure it meets length requirements for the algorithm.");
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+
+        if (keyBytes.length < 32) { // HS256 최소 32바이트 (256비트)
+            logger.warn("Provided JWT secret key is too short ({} bytes). HS256 requires at least 32 bytes. ", keyBytes.length);
+        }
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+
+    private static PublicKey publicKey(String keyAlgorithm, String base64Der) throws GeneralSecurityException {
+        if (!StringUtils.hasText(base64Der)) {
+            throw new IllegalArgumentException("public-key is required");
+        }
+        return KeyFactory.getInstance(keyAlgorithm).generatePublic(new X509EncodedKeySpec(decodeDer(base64Der)));
+    }
+
+    private static PrivateKey privateKey(String keyAlgorithm, String base64Der) throws GeneralSecurityException {
+        return KeyFactory.getInstance(keyAlgorithm).generatePrivate(new PKCS8EncodedKeySpec(decodeDer(base64Der)));
+    }
+
+    // PEM 머리글/바닥글과 공백이 섞여 있어도 허용
+    private static byte[] decodeDer(String value) {
+        String body = value.replaceAll("-----[A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(body);
+    }
+
+    private static boolean isBase64(String str) {
+        return str.length() % 4 == 0 && BASE64_PATTERN.matcher(str).matches();
+    }
+}
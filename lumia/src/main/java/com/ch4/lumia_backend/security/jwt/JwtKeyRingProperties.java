@@ -0,0 +1,40 @@
+// src/main/java/com/ch4/lumia_backend/security/jwt/JwtKeyRingProperties.java
+package com.ch4.lumia_backend.security.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * jwt.key-ring.* 설정.
+ * 예)
+ *   jwt.key-ring.active-kid=2026-10
+ *   jwt.key-ring.keys.2026-10.algorithm=ES256
+ *   jwt.key-ring.keys.2026-10.private-key=(PKCS#8 DER, Base64)
+ *   jwt.key-ring.keys.2026-10.public-key=(X.509 DER, Base64)
+ * 서명에는 active-kid 키만 사용하고, 나머지 키는 이미 발급된 토큰 검증용으로만 남겨둡니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "jwt.key-ring")
+@Getter
+@Setter
+public class JwtKeyRingProperties {
+
+    // 새 토큰 서명에 사용할 kid. 비어 있으면 jwt.secret.key로 만든 기본 키(JwtKeyRing.LEGACY_KID) 사용
+    private String activeKid;
+
+    private Map<String, KeyProperties> keys = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class KeyProperties {
+        private String algorithm = "HS256"; // HS256, HS384, HS512, ES256, EdDSA
+        private String secret;              // HMAC 키 (Base64 또는 일반 문자열)
+        private String privateKey;          // ES256/EdDSA 서명 키. 검증만 하는 이전 키는 생략 가능
+        private String publicKey;           // ES256/EdDSA 검증 키
+    }
+}
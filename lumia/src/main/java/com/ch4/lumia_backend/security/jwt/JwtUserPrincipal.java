@@ -0,0 +1,34 @@
+// src/main/java/com/ch4/lumia_backend/security/jwt/JwtUserPrincipal.java
+package com.ch4.lumia_backend.security.jwt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Access Token에서 꺼낸 사용자 정보를 담는 Principal.
+ * getName()은 로그인 ID를 반환하므로 기존의 authentication.getName() 호출은 그대로 동작합니다.
+ * userPkId가 null이면 PK 클레임이 없는 (이전 버전) 토큰입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwtUserPrincipal implements Principal {
+
+    private final Long userPkId; // users.user_pk_id
+    private final String userId; // 로그인 ID
+    private final String role;
+    private final String tokenId; // jti (로그아웃 시 폐기 목록에 등록). 이전 버전 토큰은 null
+    private final Instant expiresAt; // Access Token 만료 시각
+
+    @Override
+    public String getName() {
+        return userId;
+    }
+
+    @Override
+    public String toString() {
+        return userId;
+    }
+}
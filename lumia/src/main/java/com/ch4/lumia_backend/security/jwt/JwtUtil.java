@@ -1,34 +1,40 @@
 // lumin/src/main/java/com/ch4/lumia_backend/security/jwt/JwtUtil.java 수정본
 package com.ch4.lumia_backend.security.jwt;
 
+import com.ch4.lumia_backend.entity.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
-import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value; // 이 import 문이 중복되지 않도록 확인 (이미 있다면 그대로 둡니다)
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
 import java.util.Date;
-import java.util.regex.Pattern;
+import java.util.Optional;
+import java.util.UUID;
 
 @Component
+@RequiredArgsConstructor
 public class JwtUtil {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
 
-    @Value("${jwt.secret.key:YourVeryLongAndSecureSecretKeyForLumiaAppReplaceThis}")
-    private String secretKeyPlain;
+    // Access Token에 포함되는 추가 클레임 이름
+    public static final String CLAIM_USER_PK = "uid";
+    public static final String CLAIM_ROLE = "role";
 
-    private SecretKey secretKey;
+    // 파서는 thread-safe 하므로 한 번만 만들어 재사용합니다.
+    private JwtParser jwtParser;
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtKeyRing jwtKeyRing; // kid별 서명/검증 키
 
     // application.properties에서 Access Token 유효 기간을 읽어옵니다.
     // 값이 없거나 잘못된 경우 기본값으로 1시간(3600000ms)을 사용합니다.
@@ -40,50 +46,28 @@ public class JwtUtil {
     @Value("${jwt.refresh.token.validity.ms:2592000000}")
     private long refreshTokenValidityInMilliseconds;
 
-    // 간단한 Base64 형식 체크를 위한 정규표현식 (엄밀한 검사는 아님)
-    private static final Pattern BASE64_PATTERN = Pattern.compile("^[A-Za-z0-9+/]*={0,2}$");
-
-    private boolean isBase64(String str) {
-        if (str == null || str.isEmpty()) {
-            return false;
-        }
-        return str.length() % 4 == 0 && BASE64_PATTERN.matcher(str).matches();
-    }
-
     @PostConstruct
     public void init() {
-        byte[] keyBytes;
-        if (isBase64(secretKeyPlain)) {
-            try {
-                keyBytes = Base64.getDecoder().decode(secretKeyPlain);
-            } catch (IllegalArgumentException e) {
-                logger.warn("Failed to Base64 decode JWT Secret Key, treating as plain string (UTF-8). " +
-                            "Ensure it meets length requirements for the algorithm.", e);
-                keyBytes = secretKeyPlain.getBytes(StandardCharsets.UTF_8);
-            }
-        } else {
-            logger.info("JWT Secret Key is not Base64 encoded. Using plain string bytes (UTF-8). " +
-                        "Ensure it meets length requirements for the algorithm.");
-            keyBytes = secretKeyPlain.getBytes(StandardCharsets.UTF_8);
-        }
-
-        if (keyBytes.length < 32) { // HS256 최소 32바이트 (256비트)
-            logger.warn("Provided JWT secret key is too short ({} bytes). HS256 requires at least 32 bytes. ", keyBytes.length);
-        }
-        this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        // 서명 검증 키는 토큰 헤더의 kid로 키 링에서 찾음
+        this.jwtParser = Jwts.parser()
+                .keyLocator(jwtKeyRing)
+                .build();
     }
 
     // Access Token 생성 메소드
     // (이름을 generateAccessToken으로 변경하는 것을 고려해볼 수 있습니다.)
-    public String generateToken(String userId) {
+    // 사용자 PK와 권한을 클레임으로 함께 넣어, 요청마다 users 테이블을 조회하지 않아도 되도록 합니다.
+    public String generateToken(User user) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + this.accessTokenValidityInMilliseconds); // 주입받은 Access Token 유효 기간 사용
 
-        return Jwts.builder()
-                .subject(userId)
+        return jwtKeyRing.sign(Jwts.builder())
+                .subject(user.getUserId())
+                .id(UUID.randomUUID().toString()) // 로그아웃 시 이 jti로 토큰을 폐기
+                .claim(CLAIM_USER_PK, user.getId())
+                .claim(CLAIM_ROLE, user.getRole())
                 .issuedAt(now)
                 .expiration(validity)
-                .signWith(secretKey)
                 .compact();
     }
 
@@ -93,32 +77,35 @@ public class JwtUtil {
         // Refresh Token의 만료 시간은 refreshTokenValidityInMilliseconds 변수를 사용합니다.
         Date validity = new Date(now.getTime() + this.refreshTokenValidityInMilliseconds); // 주입받은 Refresh Token 유효 기간 사용
 
-        return Jwts.builder()
+        return jwtKeyRing.sign(Jwts.builder())
                 .subject(userId) // Access Token과 마찬가지로 사용자 ID를 포함할 수 있습니다.
+                .id(UUID.randomUUID().toString()) // 같은 초에 발급되어도 토큰(=다이제스트)이 겹치지 않도록 jti 부여
                 // 필요하다면 다른 claim을 추가하여 Access Token과 구분할 수 있습니다.
                 // 예: .claim("type", "refresh") 
                 .issuedAt(now)
                 .expiration(validity)
-                .signWith(secretKey) // 동일한 secretKey를 사용하거나, Refresh Token용 별도 키를 사용할 수도 있습니다.
                 .compact();
     }
 
-    public String getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
-    }
-
-    public boolean validateToken(String token) {
+    /**
+     * 토큰 서명과 만료를 한 번에 검증하고 Claims를 반환합니다.
+     * 이미 검증된 토큰이면 캐시에서 바로 꺼내므로 서명 검증을 다시 하지 않습니다.
+     * @param token Access Token 문자열
+     * @return 유효한 토큰이면 Claims, 아니면 Optional.empty()
+     */
+    public Optional<Claims> verifyAndGetClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        String digest = VerifiedTokenCache.digest(token);
+        Claims cached = verifiedTokenCache.get(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
         try {
-            Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
-            return true;
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            verifiedTokenCache.put(digest, claims);
+            return Optional.of(claims);
         } catch (SecurityException | MalformedJwtException e) {
             logger.error("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -130,6 +117,17 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims string is empty or invalid: {}", e.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    public String getUserIdFromToken(String token) {
+        Claims claims = jwtParser
+                .parseSignedClaims(token)
+                .getPayload();
+        return claims.getSubject();
+    }
+
+    public boolean validateToken(String token) {
+        return verifyAndGetClaims(token).isPresent();
     }
 }
\ No newline at end of file
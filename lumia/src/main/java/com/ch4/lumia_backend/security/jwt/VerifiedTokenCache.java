@@ -0,0 +1,169 @@
+// src/main/java/com/ch4/lumia_backend/security/jwt/VerifiedTokenCache.java
+package com.ch4.lumia_backend.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 서명 검증을 통과한 Access Token의 Claims를 토큰 만료 시각(exp)까지 보관하는 캐시.
+ * 같은 토큰으로 반복 요청이 들어오면 HMAC 검증과 JSON 파싱을 건너뜁니다.
+ * 키는 토큰 원문이 아닌 SHA-256 다이제스트이므로 메모리에 토큰 문자열을 그대로 남기지 않습니다.
+ * 항목은 만료 시각 순으로도 정렬해 두므로, 용량이 찼을 때 전체를 훑지 않고 가장 먼저 만료되는 항목부터 O(log n)에 제거합니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(VerifiedTokenCache.class);
+
+    private static final Comparator<Entry> BY_EXPIRY =
+            Comparator.comparingLong((Entry entry) -> entry.expiresAtMillis).thenComparingLong(entry -> entry.sequence);
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry> expiryOrder = new ConcurrentSkipListSet<>(BY_EXPIRY);
+    private final AtomicLong sequence = new AtomicLong(); // 만료 시각이 같은 항목 구분용
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evicted = new LongAdder(); // 용량 초과로 만료 전에 밀려난 건수
+
+    private final int maxSize;
+
+    public VerifiedTokenCache(@Value("${jwt.verified-cache.max-size:10000}") int maxSize, MeterRegistry meterRegistry) {
+        this.maxSize = maxSize;
+        FunctionCounter.builder("jwt.verified.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.verified.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("jwt.verified.cache.evicted", evicted, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("jwt.verified.cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 Claims를 반환합니다. 없거나 만료된 경우 null.
+     */
+    public Claims get(String tokenDigest) {
+        Entry entry = entries.get(tokenDigest);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAtMillis <= System.currentTimeMillis()) {
+            remove(entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.claims;
+    }
+
+    /**
+     * 검증이 끝난 Claims를 저장합니다. exp가 없는 토큰은 캐시하지 않습니다.
+     */
+    public void put(String tokenDigest, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (expiration.getTime() <= now) {
+            return;
+        }
+        Entry entry = new Entry(tokenDigest, claims, expiration.getTime(), sequence.incrementAndGet());
+        if (entries.putIfAbsent(tokenDigest, entry) != null) {
+            return; // 동시에 같은 토큰을 검증한 다른 요청이 이미 저장함
+        }
+        expiryOrder.add(entry);
+        evictIfNeeded(now);
+    }
+
+    public void invalidate(String tokenDigest) {
+        Entry entry = entries.get(tokenDigest);
+        if (entry != null) {
+            remove(entry);
+        }
+    }
+
+    // 만료된 항목을 앞에서부터 치우고, 그래도 용량을 넘으면 가장 먼저 만료될 항목을 밀어냄 (항목당 O(log n))
+    private void evictIfNeeded(long now) {
+        Entry first;
+        while ((first = expiryOrder.pollFirst()) != null) {
+            boolean expired = first.expiresAtMillis <= now;
+            if (!expired && entries.size() <= maxSize) {
+                expiryOrder.add(first); // 만료되지도 넘치지도 않았으므로 되돌려 놓고 종료
+                return;
+            }
+            if (entries.remove(first.digest, first) && !expired) {
+                evicted.increment();
+                logger.debug("Verified token cache is full; evicted the entry expiring soonest.");
+            }
+        }
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.digest, entry);
+        expiryOrder.remove(entry);
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 토큰 문자열의 SHA-256 다이제스트(Base64)를 계산합니다.
+     */
+    public static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현은 SHA-256을 제공해야 하므로 발생하지 않음
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private static final class Entry {
+        private final String digest;
+        private final Claims claims;
+        private final long expiresAtMillis;
+        private final long sequence;
+
+        private Entry(String digest, Claims claims, long expiresAtMillis, long sequence) {
+            this.digest = digest;
+            this.claims = claims;
+            this.expiresAtMillis = expiresAtMillis;
+            this.sequence = sequence;
+        }
+    }
+}
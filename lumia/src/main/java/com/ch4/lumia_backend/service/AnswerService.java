@@ -8,7 +8,6 @@ import com.ch4.lumia_backend.entity.User;
 import com.ch4.lumia_backend.entity.UserAnswer;
 import com.ch4.lumia_backend.repository.QuestionRepository;
 import com.ch4.lumia_backend.repository.UserAnswerRepository;
-import com.ch4.lumia_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,13 +19,12 @@ import org.springframework.transaction.annotation.Transactional;
 public class AnswerService {
 
     private final UserAnswerRepository userAnswerRepository;
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
     private final QuestionRepository questionRepository;
 
     @Transactional
     public AnswerResponseDto saveAnswer(AnswerRequestDto answerRequestDto, String userLoginId) {
-        User user = userRepository.findByUserId(userLoginId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userLoginId));
+        User user = userLookupService.getReference(userLoginId);
         Question question = questionRepository.findById(answerRequestDto.getQuestionId())
                 .orElseThrow(() -> new IllegalArgumentException("질문을 찾을 수 없습니다: " + answerRequestDto.getQuestionId()));
 
@@ -46,8 +44,7 @@ public class AnswerService {
 
     @Transactional(readOnly = true)
     public Page<AnswerResponseDto> getMyAnswers(String userLoginId, Pageable pageable) {
-        User user = userRepository.findByUserId(userLoginId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userLoginId));
+        User user = userLookupService.getReference(userLoginId);
 
         Page<UserAnswer> answerPage = userAnswerRepository.findByUserOrderByAnsweredAtDesc(user, pageable);
 
@@ -0,0 +1,308 @@
+// src/main/java/com/ch4/lumia_backend/service/BoardEventHub.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.dto.BoardEventDto;
+import com.ch4.lumia_backend.event.CommentChangedEvent;
+import com.ch4.lumia_backend.event.PostChangedEvent;
+import com.ch4.lumia_backend.event.PostsDeletedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시판 변경 알림을 SSE 구독자들에게 나눠 보내는 허브.
+ * 연결은 서블릿 비동기(SseEmitter)로 유지되므로 대기 중인 연결은 스레드를 점유하지 않습니다.
+ * 발행자(커밋 후 이벤트 리스너)는 구독자별 고정 크기 큐에 offer만 하고 바로 돌아가며,
+ * 실제 전송은 작은 dispatcher 스레드 풀이 큐가 빌 때까지 처리합니다.
+ * 큐가 가득 찬(따라가지 못하는) 구독자는 기다리지 않고 연결을 끊습니다. 클라이언트는 재연결 후 목록을 다시 조회하면 됩니다.
+ * emitter.send는 소켓 쓰기에서 블록될 수 있으므로, 한 번의 전송이 send-timeout-ms를 넘긴 구독자는 감시 작업이 목록에서 빼고
+ * 그 스레드 몫만큼 dispatcher 스레드를 하나 늘려(최대 max-stalled-sends개) 다른 구독자 전송이 밀리지 않게 합니다.
+ * 멈춘 전송이 끝나거나 실패하면 해당 스레드가 연결을 정리하고 늘렸던 스레드도 다시 줄어듭니다.
+ * emitter.complete()는 진행 중인 send와 같은 잠금을 쓰므로 연결 종료도 항상 해당 구독자의 drain 작업에서만 호출합니다.
+ */
+@Service
+public class BoardEventHub {
+
+    private static final Logger logger = LoggerFactory.getLogger(BoardEventHub.class);
+
+    // 하트비트: 프록시의 유휴 연결 종료를 막고, 끊어진 연결을 전송 실패로 감지하는 용도
+    private static final Object HEARTBEAT = new Object();
+
+    private static final int IDLE = 0;
+    private static final int SENDING = 1;
+    private static final int STALLED = 2; // 전송이 너무 오래 걸려 감시 작업이 넘겨받은 상태
+
+    private final Map<Long, Subscriber> subscribers = new ConcurrentHashMap<>();
+    // 지금 emitter.send 중인 구독자 (이미 목록에서 빠진 구독자 포함). 감시 작업이 순회
+    private final Set<Subscriber> sending = ConcurrentHashMap.newKeySet();
+    private final AtomicLong nextSubscriberId = new AtomicLong();
+    private final ThreadPoolExecutor dispatcher;
+    private final int dispatcherThreads;
+    private final int maxStalledSends;
+    private final AtomicInteger stalledSends = new AtomicInteger();
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private final Counter droppedCounter;
+    private final Counter sendTimeoutCounter;
+
+    public BoardEventHub(@Value("${board.events.buffer-size:64}") int bufferSize,
+                         @Value("${board.events.max-subscribers:10000}") int maxSubscribers,
+                         @Value("${board.events.timeout-ms:1800000}") long timeoutMillis,
+                         @Value("${board.events.dispatcher-threads:4}") int dispatcherThreads,
+                         @Value("${board.events.send-timeout-ms:5000}") long sendTimeoutMillis,
+                         @Value("${board.events.max-stalled-sends:16}") int maxStalledSends,
+                         MeterRegistry meterRegistry) {
+        this.bufferSize = Math.max(1, bufferSize);
+        this.maxSubscribers = Math.max(1, maxSubscribers);
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, sendTimeoutMillis));
+        this.dispatcherThreads = Math.max(1, dispatcherThreads);
+        this.maxStalledSends = Math.max(0, maxStalledSends);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = new ThreadPoolExecutor(this.dispatcherThreads, this.dispatcherThreads,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "board-events-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.droppedCounter = Counter.builder("board.events.dropped")
+                .description("SSE subscribers disconnected because their buffer was full")
+                .register(meterRegistry);
+        this.sendTimeoutCounter = Counter.builder("board.events.send-timeouts")
+                .description("SSE subscribers disconnected because a single send took longer than the send timeout")
+                .register(meterRegistry);
+        Gauge.builder("board.events.stalled-sends", stalledSends, AtomicInteger::get)
+                .description("Sends still blocked after their subscriber was dropped")
+                .register(meterRegistry);
+        Gauge.builder("board.events.subscribers", subscribers, Map::size)
+                .description("Connected board event stream subscribers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 구독자 등록. 동시 구독자 수가 한도를 넘으면 IllegalStateException
+     */
+    public SseEmitter subscribe() {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("실시간 알림 연결 수가 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return register(new SseEmitter(timeoutMillis));
+    }
+
+    // subscribe()와 테스트에서 사용
+    SseEmitter register(SseEmitter emitter) {
+        long id = nextSubscriberId.incrementAndGet();
+        Subscriber subscriber = new Subscriber(id, emitter, new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(id));
+        emitter.onTimeout(() -> subscribers.remove(id));
+        emitter.onError(e -> subscribers.remove(id));
+        subscribers.put(id, subscriber);
+        subscriber.offer(HEARTBEAT); // 연결 직후 응답 헤더를 내보내 클라이언트가 연결 성공을 알 수 있도록
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        String type = switch (event.getType()) {
+            case CREATED -> "post-created";
+            case UPDATED -> "post-updated";
+            case DELETED -> "post-deleted";
+        };
+        publish(new BoardEventDto(type, event.getPostId(), event.getCategory(), event.getTitle(), null));
+    }
+
+    // 일괄 삭제는 구독자마다 큐 한 칸만 쓰도록 ID 목록을 담은 이벤트 하나로 보냄
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostsDeleted(PostsDeletedEvent event) {
+        publish(BoardEventDto.postsDeleted(event.getPostIds()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.getType() == CommentChangedEvent.Type.CREATED) {
+            publish(new BoardEventDto("comment-added", event.getPostId(), null, null, event.getCommentId()));
+        }
+    }
+
+    @Scheduled(initialDelayString = "${board.events.heartbeat-interval-ms:15000}",
+               fixedDelayString = "${board.events.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        publishToAll(HEARTBEAT);
+    }
+
+    // 한 번의 전송이 send-timeout-ms를 넘긴 구독자를 넘겨받아 다른 구독자 전송이 밀리지 않게 함
+    @Scheduled(initialDelayString = "${board.events.stall-check-interval-ms:1000}",
+               fixedDelayString = "${board.events.stall-check-interval-ms:1000}")
+    public void checkStalledSends() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : sending) {
+            subscriber.handOffIfStalled(now);
+        }
+    }
+
+    public void publish(BoardEventDto event) {
+        publishToAll(event);
+    }
+
+    private void publishToAll(Object message) {
+        for (Subscriber subscriber : subscribers.values()) {
+            subscriber.offer(message);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        for (Subscriber subscriber : subscribers.values()) {
+            if (subscriber.sendState.get() != SENDING) { // 멈춘 전송이 잡고 있는 emitter는 건드리지 않음 (complete가 블록됨)
+                subscriber.emitter.complete();
+            }
+        }
+        subscribers.clear();
+    }
+
+    // 기본 스레드 수 + 아직 끝나지 않은 멈춘 전송 수(최대 maxStalledSends)로 dispatcher 크기를 맞춤
+    private synchronized void resizeDispatcher() {
+        int size = dispatcherThreads + Math.max(0, Math.min(stalledSends.get(), maxStalledSends));
+        if (size > dispatcher.getCorePoolSize()) {
+            dispatcher.setMaximumPoolSize(size);
+            dispatcher.setCorePoolSize(size); // 대기 중인 drain 작업이 있으면 바로 새 스레드가 가져감
+        } else if (size < dispatcher.getCorePoolSize()) {
+            dispatcher.setCorePoolSize(size);
+            dispatcher.setMaximumPoolSize(size);
+        }
+    }
+
+    private final class Subscriber {
+        private final long id;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Object> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicInteger sendState = new AtomicInteger(IDLE);
+        private volatile long sendStartedNanos;
+        private volatile boolean closed;
+
+        private Subscriber(long id, SseEmitter emitter, BlockingQueue<Object> queue) {
+            this.id = id;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        // 발행자 쪽: 절대 블록하지 않음. 버퍼가 가득 차면 이 구독자를 끊음
+        void offer(Object message) {
+            if (closed) {
+                return;
+            }
+            if (!queue.offer(message)) {
+                droppedCounter.increment();
+                logger.debug("Dropping slow board event subscriber {}", id);
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        // 구독자당 동시에 하나의 drain 작업만 돌도록 (전송 순서 보장, 작업 수 ≤ 구독자 수)
+        void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false); // 종료 중
+                }
+            }
+        }
+
+        void drain() {
+            try {
+                Object message;
+                while (!closed && (message = queue.poll()) != null) {
+                    send(message);
+                }
+                if (closed) {
+                    emitter.complete();
+                    return;
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+                logger.debug("Board event subscriber {} disconnected: {}", id, e.getMessage());
+                close();
+                emitter.complete();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (closed || !queue.isEmpty()) {
+                scheduleDrain(); // drain을 마치는 사이에 들어온 메시지나 종료 요청
+            }
+        }
+
+        private void send(Object message) throws IOException {
+            sendStartedNanos = System.nanoTime();
+            sendState.set(SENDING);
+            sending.add(this);
+            try {
+                if (message == HEARTBEAT) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                } else {
+                    BoardEventDto event = (BoardEventDto) message;
+                    emitter.send(SseEmitter.event().name(event.getType()).data(event, MediaType.APPLICATION_JSON));
+                }
+            } finally {
+                sending.remove(this);
+                if (!sendState.compareAndSet(SENDING, IDLE)) {
+                    // 감시 작업이 넘겨받은 뒤에야 끝난 전송: 늘렸던 스레드를 돌려놓음 (closed이므로 drain이 연결을 정리)
+                    sendState.set(IDLE);
+                    stalledSends.decrementAndGet();
+                    resizeDispatcher();
+                }
+            }
+        }
+
+        // 감시 작업 쪽: 블록하지 않음. 목록에서 빼고(이미 빠졌을 수도 있음) 이 스레드 몫만큼 dispatcher를 늘림
+        void handOffIfStalled(long now) {
+            if (sendState.get() == SENDING && now - sendStartedNanos > sendTimeoutNanos
+                    && sendState.compareAndSet(SENDING, STALLED)) {
+                sendTimeoutCounter.increment();
+                logger.debug("Dropping stalled board event subscriber {}", id);
+                close();
+                stalledSends.incrementAndGet();
+                resizeDispatcher();
+            }
+        }
+
+        // 어느 스레드에서든 블록하지 않음. emitter.complete()는 drain 작업이 호출
+        void close() {
+            closed = true;
+            subscribers.remove(id, this);
+            queue.clear();
+            scheduleDrain();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+// src/main/java/com/ch4/lumia_backend/service/CommentCountReconciler.java
+package com.ch4.lumia_backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+/**
+ * posts.comment_count와 실제 댓글 수가 어긋난 행을 바로잡는 주기 작업.
+ * id 범위를 batch-size 단위로 나눠 여러 번의 짧은 UPDATE로 처리하므로 posts 전체를 오래 잠그지 않습니다.
+ * 컬럼이 처음 추가된 직후(기존 글은 0)에도 이 작업이 값을 채웁니다.
+ */
+@Service
+public class CommentCountReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CommentCountReconciler.class);
+
+    private static final String RECONCILE_SQL =
+            "UPDATE posts p SET p.comment_count = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id) "
+          + "WHERE p.id BETWEEN ? AND ? "
+          + "AND p.comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public CommentCountReconciler(JdbcTemplate jdbcTemplate,
+                                  @Value("${post.comment-count.reconcile.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(initialDelayString = "${post.comment-count.reconcile.initial-delay-ms:30000}",
+               fixedDelayString = "${post.comment-count.reconcile.interval-ms:21600000}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        try {
+            Map<String, Object> range = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM posts");
+            if (range.get("min_id") == null) {
+                return;
+            }
+            long minId = ((Number) range.get("min_id")).longValue();
+            long maxId = ((Number) range.get("max_id")).longValue();
+
+            int fixed = 0;
+            for (long from = minId; from <= maxId; from += batchSize) {
+                fixed += jdbcTemplate.update(RECONCILE_SQL, from, from + batchSize - 1);
+            }
+            if (fixed > 0) {
+                logger.warn("Comment count reconciliation fixed {} post(s) in {} ms.", fixed, System.currentTimeMillis() - start);
+            } else {
+                logger.debug("Comment count reconciliation found no drift ({} ms).", System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            logger.error("Comment count reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,16 +1,29 @@
 package com.ch4.lumia_backend.service;
 
+import com.ch4.lumia_backend.dto.CommentCursor;
+import com.ch4.lumia_backend.dto.CommentResponseDto;
+import com.ch4.lumia_backend.dto.ResourceVersion;
 import com.ch4.lumia_backend.entity.Comment;
 import com.ch4.lumia_backend.entity.Post;
+import com.ch4.lumia_backend.event.CommentChangedEvent;
 import com.ch4.lumia_backend.repository.CommentRepository;
 import com.ch4.lumia_backend.repository.PostRepository; // Post 존재 여부 확인을 위해 추가
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger; // Logger 추가
 import org.slf4j.LoggerFactory; // LoggerFactory 추가
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional; // 트랜잭션 어노테이션 추가
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -18,8 +31,13 @@ public class CommentService {
 
     private static final Logger logger = LoggerFactory.getLogger(CommentService.class); // Logger 선언
 
+    public static final int MAX_COMMENT_PAGE_SIZE = 200;
+    private static final int FLUSH_EVERY_ROWS = 50; // 이만큼 쓸 때마다 클라이언트로 내보내 버퍼가 커지지 않도록
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository; // PostRepository 주입
+    private final ApplicationEventPublisher eventPublisher; // 커밋 후 검색 색인 갱신 등에 사용
+    private final ObjectMapper objectMapper;
 
     /**
      * 특정 게시글에 달린 댓글 목록 조회
@@ -27,13 +45,77 @@ public class CommentService {
     @Transactional(readOnly = true)
     public List<Comment> getCommentsByPostId(Long postId) {
         // 게시글 존재 여부 먼저 확인 (선택적이지만, 더 안전한 방법)
+        ensurePostExists(postId);
+        Post post = Post.fromId(postId); // ID만 가진 Post 객체 생성
+        logger.debug("Fetching comments for post id: {}", postId);
+        return commentRepository.findByPostOrderByCreatedAtAsc(post);
+    }
+
+    /**
+     * 게시글이 없으면 IllegalArgumentException
+     */
+    @Transactional(readOnly = true)
+    public void ensurePostExists(Long postId) {
         if (!postRepository.existsById(postId)) {
             logger.warn("Attempted to get comments for non-existent post with id: {}", postId);
             throw new IllegalArgumentException("ID " + postId + "에 해당하는 게시글이 존재하지 않습니다.");
         }
-        Post post = Post.fromId(postId); // ID만 가진 Post 객체 생성
-        logger.debug("Fetching comments for post id: {}", postId);
-        return commentRepository.findByPostOrderByCreatedAtAsc(post);
+    }
+
+    /**
+     * 댓글 한 페이지를 (createdAt, id) 키셋 커서로 조회해 JSON으로 바로 씁니다.
+     * 형식: {"content":[...], "nextCursor":"..." | null, "hasNext":true|false}
+     * 조회 결과를 리스트로 모으지 않고 한 행씩 직렬화하므로 페이지 크기와 관계없이 메모리 사용량이 일정합니다.
+     * 다음 페이지 여부는 size + 1 번째 행이 있는지로 판단합니다 (COUNT 쿼리 없음).
+     */
+    @Transactional(readOnly = true)
+    public void writeCommentPage(Long postId, CommentCursor after, int size, OutputStream out) throws IOException {
+        int pageSize = Math.min(Math.max(size, 1), MAX_COMMENT_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        try (Stream<CommentResponseDto> rows = after == null
+                     ? commentRepository.streamCommentResponses(postId, limit)
+                     : commentRepository.streamCommentResponsesAfter(postId, after.getCreatedAt(), after.getId(), limit);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 응답 스트림은 서블릿 컨테이너가 닫음
+
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("content");
+            Iterator<CommentResponseDto> iterator = rows.iterator();
+            CommentResponseDto last = null;
+            int written = 0;
+            boolean hasNext = false;
+            while (iterator.hasNext()) {
+                CommentResponseDto row = iterator.next();
+                if (written == pageSize) {
+                    hasNext = true;
+                    break;
+                }
+                generator.writeObject(row);
+                last = row;
+                if (++written % FLUSH_EVERY_ROWS == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+            if (hasNext) {
+                generator.writeStringField("nextCursor", new CommentCursor(last.getCreatedAt(), last.getId()).encode());
+            } else {
+                generator.writeNullField("nextCursor");
+            }
+            generator.writeBooleanField("hasNext", hasNext);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * 댓글 목록의 버전 정보 (조건부 GET용). 댓글 본문을 읽지 않는 집계 쿼리 1회.
+     */
+    @Transactional(readOnly = true)
+    public ResourceVersion getCommentsVersion(Long postId) {
+        CommentRepository.CommentListVersionView version = commentRepository.findVersionByPostId(postId);
+        long lastModified = ResourceVersion.toEpochMillis(version.getLastModified());
+        return new ResourceVersion("comments-" + postId + "-" + version.getTotal() + "-" + version.getMaxId() + "-" + lastModified);
     }
 
     /**
@@ -65,7 +147,11 @@ public class CommentService {
                 .build();
 
         logger.info("User {} created a new comment on post id: {}", userId, actualPost.getId());
-        return commentRepository.save(comment);
+        Comment savedComment = commentRepository.save(comment);
+        postRepository.addToCommentCount(actualPost.getId(), 1);
+        eventPublisher.publishEvent(new CommentChangedEvent(savedComment.getId(), actualPost.getId(),
+                savedComment.getContent(), CommentChangedEvent.Type.CREATED));
+        return savedComment;
     }
 
     /**
@@ -92,7 +178,10 @@ public class CommentService {
 
         comment.updateContent(content);
         logger.info("Comment id: {} updated by user {}.", commentId, userId);
-        return commentRepository.save(comment);
+        Comment updatedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(commentId, comment.getPost().getId(),
+                updatedComment.getContent(), CommentChangedEvent.Type.UPDATED));
+        return updatedComment;
     }
 
     /**
@@ -113,5 +202,8 @@ public class CommentService {
         }
         logger.info("Comment id: {} deleted by user {}.", commentId, userId);
         commentRepository.delete(comment);
+        postRepository.addToCommentCount(comment.getPost().getId(), -1);
+        eventPublisher.publishEvent(new CommentChangedEvent(commentId, comment.getPost().getId(),
+                null, CommentChangedEvent.Type.DELETED));
     }
 }
\ No newline at end of file
@@ -0,0 +1,259 @@
+// src/main/java/com/ch4/lumia_backend/service/HotPostRanking.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.event.CommentChangedEvent;
+import com.ch4.lumia_backend.event.PostChangedEvent;
+import com.ch4.lumia_backend.event.PostsDeletedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 게시글 순위 (댓글·조회수에 시간 감쇠를 적용한 점수).
+ * 점수는 "지금 기준으로 반감기(half-life)마다 절반이 되는" 지수 감쇠 합입니다.
+ * 모든 점수를 주기적으로 깎는 대신, 이벤트를 기준 시각(landmark) 대비 exp(λ·(t - landmark)) 배로 더해 둡니다(forward decay).
+ * 모든 게시글에 같은 배율이 곱해진 것과 같으므로 순위는 현재 시각 기준 감쇠 점수의 순위와 같고, 이벤트가 없는 글의 점수를 갱신할 필요가 없습니다.
+ * 배율이 너무 커지기 전에 기준 시각을 옮기며 전체 점수를 한 번 다시 계산합니다(rebase).
+ *
+ * 점수 순으로 정렬된 ConcurrentSkipListSet을 유지하므로 상위 K개 조회는 O(K)이고 락 없이 읽습니다.
+ * 쓰기(이벤트 반영)는 단일 락으로 직렬화합니다. 추적 대상은 capacity개로 제한하며, 넘치면 점수가 가장 낮은 글을 버립니다.
+ * rebase는 다시 계산한 집합을 따로 만든 뒤 참조만 바꾸므로 읽는 쪽이 비어 있거나 반쯤 채워진 순위를 보지 않습니다.
+ *
+ * 시작 시 HotPostRankingLoader가 DB의 댓글로 다시 채우는 동안(beginRebuild ~ finishRebuild) 들어온 댓글/삭제 이벤트는 모아 두었다가
+ * 적재가 끝난 뒤 적재 결과에 없던 것만 반영하므로, 적재와 실시간 이벤트가 같은 댓글을 두 번 세지 않습니다.
+ */
+@Service
+public class HotPostRanking {
+
+    private static final Comparator<ScoredPost> BY_SCORE_DESC =
+            Comparator.comparingDouble(ScoredPost::getScore).reversed().thenComparing(ScoredPost::getPostId, Comparator.reverseOrder());
+
+    private volatile NavigableSet<ScoredPost> ranking = new ConcurrentSkipListSet<>(BY_SCORE_DESC); // 교체는 락 안에서만
+    private Map<Long, ScoredPost> byPostId = new HashMap<>(); // 락 안에서만 접근
+    private final Object lock = new Object();
+
+    // 재구성 중에만 non-null, 락 안에서만 접근
+    private Map<Long, PendingComment> pendingComments; // commentId → 아직 반영하지 않은 실시간 댓글
+    private Set<Long> removedDuringRebuild;
+
+    private final double lambdaPerMillis;
+    private final long rebaseIntervalMillis;
+    private final double commentWeight;
+    private final double viewWeight;
+    private final int capacity;
+    private volatile long landmarkMillis = System.currentTimeMillis();
+
+    public HotPostRanking(@Value("${post.hot.half-life-hours:12}") double halfLifeHours,
+                          @Value("${post.hot.comment-weight:5}") double commentWeight,
+                          @Value("${post.hot.view-weight:1}") double viewWeight,
+                          @Value("${post.hot.capacity:1000}") int capacity,
+                          MeterRegistry meterRegistry) {
+        double halfLifeMillis = halfLifeHours * TimeUnit.HOURS.toMillis(1);
+        this.lambdaPerMillis = Math.log(2) / halfLifeMillis;
+        this.rebaseIntervalMillis = (long) (halfLifeMillis * 16); // 배율 최대 2^16 정도에서 기준 시각 이동
+        this.commentWeight = commentWeight;
+        this.viewWeight = viewWeight;
+        this.capacity = Math.max(1, capacity);
+        Gauge.builder("post.hot.tracked", this, HotPostRanking::size)
+                .description("Posts tracked by the hot post ranking")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.getType() == CommentChangedEvent.Type.CREATED) {
+            recordComment(event.getCommentId(), event.getPostId(), System.currentTimeMillis());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            remove(event.getPostId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostsDeleted(PostsDeletedEvent event) {
+        event.getPostIds().forEach(this::remove);
+    }
+
+    public void recordComment(long commentId, long postId, long atMillis) {
+        synchronized (lock) {
+            if (pendingComments != null) {
+                pendingComments.put(commentId, new PendingComment(postId, atMillis));
+                return;
+            }
+            add(postId, commentWeight, atMillis);
+        }
+    }
+
+    /**
+     * 재구성 시작. 이후 finishRebuild까지 실시간 댓글·삭제 이벤트는 모아 두기만 합니다.
+     */
+    public void beginRebuild() {
+        synchronized (lock) {
+            pendingComments = new HashMap<>();
+            removedDuringRebuild = new HashSet<>();
+        }
+    }
+
+    /**
+     * 재구성 중 DB에서 읽은 댓글. 같은 댓글의 실시간 이벤트가 모여 있으면 그것은 버립니다.
+     */
+    public void loadComment(long commentId, long postId, long atMillis) {
+        synchronized (lock) {
+            if (pendingComments != null) {
+                pendingComments.remove(commentId);
+            }
+            add(postId, commentWeight, atMillis);
+        }
+    }
+
+    /**
+     * 재구성 종료. 적재 결과에 없던 실시간 댓글과 그 사이 삭제된 글을 반영합니다.
+     */
+    public void finishRebuild() {
+        synchronized (lock) {
+            if (pendingComments == null) {
+                return;
+            }
+            Map<Long, PendingComment> pending = pendingComments;
+            Set<Long> removed = removedDuringRebuild;
+            pendingComments = null;
+            removedDuringRebuild = null;
+            pending.values().forEach(comment -> add(comment.postId, commentWeight, comment.atMillis));
+            removed.forEach(this::remove);
+        }
+    }
+
+    public void recordViews(long postId, long views, long atMillis) {
+        add(postId, viewWeight * views, atMillis);
+    }
+
+    /**
+     * PostViewCounter가 DB에 반영한 조회수 증분 (postId → 조회수)
+     */
+    public void recordViews(Map<Long, Long> viewsByPostId) {
+        long now = System.currentTimeMillis();
+        viewsByPostId.forEach((postId, views) -> recordViews(postId, views, now));
+    }
+
+    public void remove(long postId) {
+        synchronized (lock) {
+            if (removedDuringRebuild != null) {
+                removedDuringRebuild.add(postId); // 적재가 삭제 전 스냅샷을 읽었을 수 있으므로 끝난 뒤 한 번 더 제거
+            }
+            ScoredPost removed = byPostId.remove(postId);
+            if (removed != null) {
+                ranking.remove(removed);
+            }
+        }
+    }
+
+    /**
+     * 점수가 높은 순으로 최대 limit개의 게시글 ID. 상위 limit개만 순회합니다.
+     */
+    public List<Long> topPostIds(int limit) {
+        // 갱신 중(제거 후 재삽입)인 글이 잠깐 두 번 보일 수 있으므로 중복 제거
+        Set<Long> ids = new LinkedHashSet<>();
+        for (ScoredPost post : ranking) {
+            if (ids.size() >= limit) {
+                break;
+            }
+            ids.add(post.getPostId());
+        }
+        return new ArrayList<>(ids);
+    }
+
+    private void add(long postId, double weight, long atMillis) {
+        if (weight <= 0) {
+            return;
+        }
+        synchronized (lock) {
+            if (atMillis - landmarkMillis > rebaseIntervalMillis) {
+                rebase(atMillis);
+            }
+            double increment = weight * Math.exp(lambdaPerMillis * (atMillis - landmarkMillis));
+            ScoredPost previous = byPostId.get(postId);
+            ScoredPost updated = new ScoredPost(postId, previous == null ? increment : previous.getScore() + increment);
+            if (previous != null) {
+                ranking.remove(previous);
+            }
+            ranking.add(updated);
+            byPostId.put(postId, updated);
+
+            while (byPostId.size() > capacity) {
+                ScoredPost lowest = ranking.pollLast();
+                if (lowest == null) {
+                    break;
+                }
+                byPostId.remove(lowest.getPostId());
+            }
+        }
+    }
+
+    // 기준 시각을 newLandmark로 옮기고 모든 점수에 같은 배율을 곱함 (순위는 그대로)
+    // 새 집합을 다 채운 뒤 참조를 바꾸므로 락 없이 순회 중인 topPostIds는 이전 집합을 끝까지 봄
+    private void rebase(long newLandmark) {
+        double factor = Math.exp(-lambdaPerMillis * (newLandmark - landmarkMillis));
+        NavigableSet<ScoredPost> rescaledRanking = new ConcurrentSkipListSet<>(BY_SCORE_DESC);
+        Map<Long, ScoredPost> rescaledByPostId = new HashMap<>(byPostId.size() * 2);
+        for (ScoredPost post : byPostId.values()) {
+            ScoredPost rescaled = new ScoredPost(post.getPostId(), post.getScore() * factor);
+            rescaledRanking.add(rescaled);
+            rescaledByPostId.put(rescaled.getPostId(), rescaled);
+        }
+        byPostId = rescaledByPostId;
+        ranking = rescaledRanking;
+        landmarkMillis = newLandmark;
+    }
+
+    public int size() {
+        return ranking.size();
+    }
+
+    private static final class PendingComment {
+        private final long postId;
+        private final long atMillis;
+
+        private PendingComment(long postId, long atMillis) {
+            this.postId = postId;
+            this.atMillis = atMillis;
+        }
+    }
+
+    // 점수가 바뀔 때마다 새 인스턴스로 교체 (정렬 집합 안의 원소는 변경하지 않음)
+    private static final class ScoredPost {
+        private final long postId;
+        private final double score;
+
+        private ScoredPost(long postId, double score) {
+            this.postId = postId;
+            this.score = score;
+        }
+
+        long getPostId() {
+            return postId;
+        }
+
+        double getScore() {
+            return score;
+        }
+    }
+}
\ No newline at end of file
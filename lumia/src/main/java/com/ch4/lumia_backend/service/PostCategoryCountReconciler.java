@@ -0,0 +1,49 @@
+// src/main/java/com/ch4/lumia_backend/service/PostCategoryCountReconciler.java
+package com.ch4.lumia_backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * post_category_counts를 posts의 실제 카테고리별 개수로 맞추는 주기 작업.
+ * 최초 배포 시 테이블을 채우는 것도 이 작업이 하므로, 일부 카테고리만 들어 있거나 중간에 실패한 경우에도 다음 실행에서 복구됩니다.
+ * INSERT ... SELECT는 읽은 posts 행을 공유 락으로 잡으므로, 실행 중의 게시글 작성/삭제는 끝날 때까지 기다렸다가 그 뒤에 증감합니다.
+ */
+@Service
+public class PostCategoryCountReconciler {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostCategoryCountReconciler.class);
+
+    private static final String UPSERT_ACTUAL_COUNTS_SQL =
+            "INSERT INTO post_category_counts (category, post_count) "
+          + "SELECT category, COUNT(*) FROM posts GROUP BY category "
+          + "ON DUPLICATE KEY UPDATE post_count = VALUES(post_count)";
+
+    // 게시글이 하나도 남지 않은 카테고리 (idx_posts_category_id로 존재 여부만 확인)
+    private static final String ZERO_EMPTY_CATEGORIES_SQL =
+            "UPDATE post_category_counts c SET c.post_count = 0 "
+          + "WHERE c.post_count <> 0 AND NOT EXISTS (SELECT 1 FROM posts p WHERE p.category = c.category)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PostCategoryCountReconciler(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Scheduled(initialDelayString = "${post.category-count.reconcile.initial-delay-ms:10000}",
+               fixedDelayString = "${post.category-count.reconcile.interval-ms:21600000}")
+    public void reconcile() {
+        long start = System.currentTimeMillis();
+        try {
+            int upserted = jdbcTemplate.update(UPSERT_ACTUAL_COUNTS_SQL);
+            int zeroed = jdbcTemplate.update(ZERO_EMPTY_CATEGORIES_SQL);
+            logger.info("Category count reconciliation refreshed {} row(s), zeroed {} empty category(ies) in {} ms.",
+                        upserted, zeroed, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            logger.error("Category count reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+// src/main/java/com/ch4/lumia_backend/service/PostListCache.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.dto.PostSummaryDto;
+import com.ch4.lumia_backend.event.CommentChangedEvent;
+import com.ch4.lumia_backend.event.PostChangedEvent;
+import com.ch4.lumia_backend.event.PostsDeletedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 게시판 목록 앞쪽 페이지의 직렬화된 JSON(byte[]) 캐시.
+ * 캐시 적중 시 DB 조회와 Jackson 직렬화를 모두 건너뜁니다.
+ * 항목마다 JSON 내용의 해시로 ETag를 만들어 두므로, 내용이 같으면 TTL 만료나 재시작 뒤에 다시 채워도 같은 ETag가 됩니다.
+ * 같은 키에 대한 동시 미스는 하나의 CompletableFuture를 공유하므로 DB 조회는 한 번만 일어납니다.
+ * 게시글이 작성/수정/삭제되면(PostChangedEvent, 커밋 후) 페이지 구성이 바뀌므로 세대(generation)를 올리고 전체를 비웁니다.
+ * 댓글 작성/삭제는 해당 게시글의 댓글 수만 바뀌므로, 그 게시글이 들어 있는 항목만 지웁니다.
+ * 어느 경우든 세대를 올려서, 변경 전에 시작해 변경 후에 끝난 조회 결과는 캐시에 남기지 않습니다.
+ */
+@Component
+public class PostListCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostListCache.class);
+
+    private static final int MAX_CACHEABLE_SIZE = 50; // size 파라미터가 이보다 크면 캐시하지 않음
+    private static final int MAX_KEYS = 256;
+
+    private final Map<String, CompletableFuture<CachedPage>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final ObjectMapper objectMapper;
+    private final int maxPages;
+    private final long ttlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PostListCache(ObjectMapper objectMapper,
+                         @Value("${post.list-cache.max-pages:2}") int maxPages,
+                         @Value("${post.list-cache.ttl-ms:30000}") long ttlMillis,
+                         MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.maxPages = maxPages;
+        this.ttlMillis = ttlMillis;
+        FunctionCounter.builder("post.list.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("post.list.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 대상 페이지인지 확인합니다. (앞쪽 maxPages 페이지, size 50 이하)
+     */
+    public boolean isCacheable(int page, int size) {
+        return page >= 0 && page < maxPages && size > 0 && size <= MAX_CACHEABLE_SIZE;
+    }
+
+    public static String pageKey(int page, int size, String category) {
+        return "page:" + page + ":" + size + ":" + (category == null ? "" : category);
+    }
+
+    public static String cursorHeadKey(int size, String category) {
+        return "cursor:" + size + ":" + (category == null ? "" : category);
+    }
+
+    /**
+     * 캐시된 JSON과 ETag를 반환하고, 없으면 loader 결과를 직렬화해서 캐시한 뒤 반환합니다.
+     * postIdsOf는 결과에 들어 있는 게시글 ID (댓글 변경 시 해당 항목만 무효화하는 데 사용)
+     */
+    public <T> CachedPage get(String key, Supplier<T> loader, Function<? super T, ? extends Collection<Long>> postIdsOf) {
+        long now = System.currentTimeMillis();
+        CompletableFuture<CachedPage> future = entries.get(key);
+        if (future != null) {
+            CachedPage entry = future.getNow(null);
+            if (entry == null || entry.expiresAtMillis > now) {
+                hits.increment(); // 로딩 중인 경우도 DB 조회를 공유하므로 적중으로 집계
+                return join(future);
+            }
+            entries.remove(key, future); // TTL 만료
+        }
+
+        misses.increment();
+        CompletableFuture<CachedPage> created = new CompletableFuture<>();
+        // category는 임의 문자열이므로 키가 계속 늘 수 있음: 가득 차면 만료된 항목, 그래도 차 있으면 가장 먼저 만료될 항목을 비움
+        boolean hasRoom = entries.size() < MAX_KEYS || evictForRoom(now);
+        CompletableFuture<CachedPage> existing = hasRoom ? entries.putIfAbsent(key, created) : null;
+        if (existing != null) {
+            return join(existing);
+        }
+
+        long startGeneration = generation.get();
+        try {
+            T result = loader.get();
+            byte[] body = objectMapper.writeValueAsBytes(result);
+            CachedPage page = new CachedPage(body, etagOf(body), Set.copyOf(postIdsOf.apply(result)),
+                                             System.currentTimeMillis() + ttlMillis);
+            // 세대 확인보다 먼저 완료시켜야, 확인 이후에 온 무효화가 이 항목을 찾아 지울 수 있음
+            created.complete(page);
+            if (generation.get() != startGeneration) {
+                entries.remove(key, created); // 조회 도중 게시글이 변경됨: 이번 결과는 캐시하지 않음
+            }
+            return page;
+        } catch (JsonProcessingException | RuntimeException e) {
+            entries.remove(key, created);
+            created.completeExceptionally(e);
+            if (e instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("게시글 목록 직렬화 실패", e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        invalidateAll();
+        logger.debug("Post list cache invalidated by {} of post {}", event.getType(), event.getPostId());
+    }
+
+    // 일괄 삭제는 몇 개를 지웠든 한 번만 비움
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostsDeleted(PostsDeletedEvent event) {
+        invalidateAll();
+        logger.debug("Post list cache invalidated by bulk delete of {} post(s)", event.getPostIds().size());
+    }
+
+    // 목록에 댓글 수가 포함되므로 댓글 작성/삭제 시 해당 게시글이 들어 있는 항목만 무효화
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.getType() != CommentChangedEvent.Type.UPDATED) {
+            invalidatePost(event.getPostId());
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        entries.clear();
+    }
+
+    /**
+     * 해당 게시글이 들어 있는 항목만 지웁니다. 아직 조회 중인 항목은 세대 변경으로 캐시되지 않습니다.
+     */
+    public void invalidatePost(long postId) {
+        generation.incrementAndGet();
+        entries.values().removeIf(future -> {
+            CachedPage entry = completedEntry(future);
+            return entry != null && entry.postIds.contains(postId);
+        });
+    }
+
+    // 만료된 항목을 모두 지우고, 그래도 MAX_KEYS 이상이면 완료된 항목 중 만료 시각이 가장 이른 것을 지움. 자리가 났으면 true
+    private boolean evictForRoom(long now) {
+        entries.values().removeIf(future -> {
+            CachedPage entry = completedEntry(future);
+            return entry != null && entry.expiresAtMillis <= now;
+        });
+        if (entries.size() < MAX_KEYS) {
+            return true;
+        }
+        Map.Entry<String, CompletableFuture<CachedPage>> oldest = null;
+        long oldestExpiresAt = Long.MAX_VALUE;
+        for (Map.Entry<String, CompletableFuture<CachedPage>> candidate : entries.entrySet()) {
+            CachedPage entry = completedEntry(candidate.getValue());
+            if (entry != null && entry.expiresAtMillis < oldestExpiresAt) {
+                oldest = candidate;
+                oldestExpiresAt = entry.expiresAtMillis;
+            }
+        }
+        // 모두 조회 중이면 이번 결과만 캐시하지 않음
+        return oldest != null && entries.remove(oldest.getKey(), oldest.getValue());
+    }
+
+    public static Set<Long> postIdsOf(List<PostSummaryDto> rows) {
+        return rows.stream().map(PostSummaryDto::getId).collect(Collectors.toSet());
+    }
+
+    // 응답 JSON의 SHA-256 앞 16바이트 (강한 ETag)
+    private static String etagOf(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"list-" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static CachedPage completedEntry(CompletableFuture<CachedPage> future) {
+        return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+    }
+
+    private static CachedPage join(CompletableFuture<CachedPage> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    public static final class CachedPage {
+        private final byte[] body;
+        private final String etag;
+        private final Set<Long> postIds;
+        private final long expiresAtMillis;
+
+        private CachedPage(byte[] body, String etag, Set<Long> postIds, long expiresAtMillis) {
+            this.body = body;
+            this.etag = etag;
+            this.postIds = postIds;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+}
@@ -0,0 +1,404 @@
+// src/main/java/com/ch4/lumia_backend/service/PostSearchIndex.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.event.CommentChangedEvent;
+import com.ch4.lumia_backend.event.PostChangedEvent;
+import com.ch4.lumia_backend.event.PostsDeletedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글(제목, 내용, 댓글) 메모리 역색인.
+ * 한글은 띄어쓰기/조사 때문에 단어 단위 색인이 잘 맞지 않으므로 2글자 단위(bigram)로 색인합니다.
+ * 예) "오늘날씨" → "오늘", "늘날", "날씨"
+ * 포스팅 목록은 게시글 ID 오름차순의 int 배열(문서 ID, 빈도)로 보관합니다.
+ * 게시글/댓글 변경은 커밋 후 이벤트로 반영하고, 시작 시에는 PostSearchIndexLoader가 DB에서 전체를 다시 읽어 채웁니다.
+ * 다시 채우는 동안(beginRebuild ~ finishRebuild) 들어온 변경 이벤트는 모아 두었다가 적재가 끝난 뒤 순서대로 반영하므로,
+ * 적재가 읽은 스냅샷보다 오래된 내용이나 그 사이 삭제된 글/댓글이 색인에 남지 않습니다. (반영은 모두 덮어쓰기/삭제라 중복 적용해도 같음)
+ * 포스팅이 빈 단어는 사전에서 지우고 단어 ID를 재사용하므로, 글이 수정되어도 사전이 계속 커지지 않습니다.
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3; // 제목에 나온 단어는 본문/댓글보다 가중치를 높게
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> termIds = new HashMap<>();
+    private final List<Postings> postings = new ArrayList<>();
+    private final Map<Integer, Document> documents = new HashMap<>(); // 게시글 ID → 색인된 단어 목록
+    private final Deque<Integer> freeTermIds = new ArrayDeque<>(); // 포스팅이 비어 사전에서 지운 단어 ID
+
+    private final Object rebuildLock = new Object();
+    private List<Runnable> pendingUpdates; // 재구성 중에만 non-null, rebuildLock 안에서만 접근
+
+    public PostSearchIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("search.index.documents", this, PostSearchIndex::documentCount)
+                .register(meterRegistry);
+        Gauge.builder("search.index.terms", this, PostSearchIndex::termCount)
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.DELETED) {
+            applyLive(() -> removePost(event.getPostId()));
+        } else {
+            applyLive(() -> indexPost(event.getPostId(), event.getTitle(), event.getContent()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostsDeleted(PostsDeletedEvent event) {
+        applyLive(() -> event.getPostIds().forEach(this::removePost));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.getType() == CommentChangedEvent.Type.DELETED) {
+            applyLive(() -> removeComment(event.getCommentId(), event.getPostId()));
+        } else {
+            applyLive(() -> indexComment(event.getCommentId(), event.getPostId(), event.getContent()));
+        }
+    }
+
+    /**
+     * 재구성 시작. 이후 finishRebuild까지 실시간 변경 이벤트는 모아 두기만 합니다.
+     */
+    public void beginRebuild() {
+        synchronized (rebuildLock) {
+            pendingUpdates = new ArrayList<>();
+        }
+    }
+
+    /**
+     * 재구성 종료. 적재 중 모아 둔 변경을 들어온 순서대로 반영합니다.
+     * 반영을 마칠 때까지 새 이벤트는 기다리므로 순서가 뒤바뀌지 않습니다.
+     */
+    public void finishRebuild() {
+        synchronized (rebuildLock) {
+            if (pendingUpdates == null) {
+                return;
+            }
+            List<Runnable> pending = pendingUpdates;
+            pendingUpdates = null;
+            pending.forEach(Runnable::run);
+        }
+    }
+
+    private void applyLive(Runnable update) {
+        synchronized (rebuildLock) {
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+                return;
+            }
+        }
+        update.run();
+    }
+
+    /**
+     * 게시글 제목/내용을 색인합니다. 이미 색인된 게시글이면 이전 내용을 빼고 새 내용으로 교체합니다.
+     */
+    public void indexPost(long postId, String title, String content) {
+        Map<String, Integer> counts = new HashMap<>();
+        tokenize(title, TITLE_WEIGHT, counts);
+        tokenize(content, 1, counts);
+
+        lock.writeLock().lock();
+        try {
+            int docId = Math.toIntExact(postId);
+            Document document = documents.computeIfAbsent(docId, id -> new Document());
+            if (document.post != null) {
+                apply(docId, document.post, -1);
+            }
+            document.post = toVector(counts);
+            apply(docId, document.post, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removePost(long postId) {
+        lock.writeLock().lock();
+        try {
+            int docId = Math.toIntExact(postId);
+            Document document = documents.remove(docId);
+            if (document == null) {
+                return;
+            }
+            if (document.post != null) {
+                apply(docId, document.post, -1);
+            }
+            for (TermVector comment : document.comments.values()) {
+                apply(docId, comment, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 댓글 내용을 해당 게시글 문서에 더합니다. 같은 댓글이 이미 색인되어 있으면 교체합니다.
+     */
+    public void indexComment(long commentId, long postId, String content) {
+        Map<String, Integer> counts = new HashMap<>();
+        tokenize(content, 1, counts);
+
+        lock.writeLock().lock();
+        try {
+            int docId = Math.toIntExact(postId);
+            Document document = documents.computeIfAbsent(docId, id -> new Document());
+            TermVector previous = document.comments.remove(commentId);
+            if (previous != null) {
+                apply(docId, previous, -1); // 새 단어 ID를 받기 전에 빼야 비워진 단어 ID를 잘못 재사용하지 않음
+            }
+            TermVector vector = toVector(counts);
+            document.comments.put(commentId, vector);
+            apply(docId, vector, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeComment(long commentId, long postId) {
+        lock.writeLock().lock();
+        try {
+            int docId = Math.toIntExact(postId);
+            Document document = documents.get(docId);
+            if (document == null) {
+                return;
+            }
+            TermVector previous = document.comments.remove(commentId);
+            if (previous != null) {
+                apply(docId, previous, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 일치하는 게시글 ID를 점수순으로 반환합니다.
+     * 일치한 검색어 bigram 수가 많은 글이 먼저 오고, 같으면 TF-IDF 합계가 높은 순, 그다음 최신순입니다.
+     */
+    public List<Long> search(String query, int limit) {
+        Map<String, Integer> queryTerms = new HashMap<>();
+        tokenize(query, 1, queryTerms);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Integer, Score> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            for (String term : queryTerms.keySet()) {
+                Integer termId = termIds.get(term);
+                if (termId == null) {
+                    continue;
+                }
+                Postings list = postings.get(termId);
+                if (list.size == 0) {
+                    continue;
+                }
+                double idf = Math.log(1.0 + (double) documentCount / list.size);
+                for (int i = 0; i < list.size; i++) {
+                    Score score = scores.computeIfAbsent(list.docs[i], id -> new Score());
+                    score.matchedTerms++;
+                    score.value += list.freqs[i] * idf;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 상위 limit개만 유지하는 최소 힙
+        PriorityQueue<Map.Entry<Integer, Score>> top = new PriorityQueue<>(limit + 1, PostSearchIndex::compareRank);
+        for (Map.Entry<Integer, Score> entry : scores.entrySet()) {
+            top.offer(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        Long[] ranked = new Long[top.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = top.poll().getKey().longValue();
+        }
+        return Arrays.asList(ranked);
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return termIds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int compareRank(Map.Entry<Integer, Score> a, Map.Entry<Integer, Score> b) {
+        int byMatched = Integer.compare(a.getValue().matchedTerms, b.getValue().matchedTerms);
+        if (byMatched != 0) {
+            return byMatched;
+        }
+        int byScore = Double.compare(a.getValue().value, b.getValue().value);
+        if (byScore != 0) {
+            return byScore;
+        }
+        return Integer.compare(a.getKey(), b.getKey());
+    }
+
+    /**
+     * 소문자로 바꾼 뒤 글자/숫자가 아닌 문자로 나누고, 각 토큰을 bigram으로 쪼갭니다. 한 글자 토큰은 그대로 사용합니다.
+     */
+    static void tokenize(String text, int weight, Map<String, Integer> counts) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int tokenStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean letter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (letter && tokenStart < 0) {
+                tokenStart = i;
+            } else if (!letter && tokenStart >= 0) {
+                if (i - tokenStart == 1) {
+                    counts.merge(normalized.substring(tokenStart, i), weight, Integer::sum);
+                } else {
+                    for (int j = tokenStart; j + 2 <= i; j++) {
+                        counts.merge(normalized.substring(j, j + 2), weight, Integer::sum);
+                    }
+                }
+                tokenStart = -1;
+            }
+        }
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출
+    private TermVector toVector(Map<String, Integer> counts) {
+        int[] ids = new int[counts.size()];
+        int[] freqs = new int[counts.size()];
+        int i = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            Integer termId = termIds.get(entry.getKey());
+            if (termId == null) {
+                termId = freeTermIds.poll();
+                if (termId == null) {
+                    termId = postings.size();
+                    postings.add(null);
+                }
+                termIds.put(entry.getKey(), termId);
+                postings.set(termId, new Postings(entry.getKey()));
+            }
+            ids[i] = termId;
+            freqs[i] = entry.getValue();
+            i++;
+        }
+        return new TermVector(ids, freqs);
+    }
+
+    // 쓰기 락을 잡은 상태에서 호출. 포스팅이 빈 단어는 사전에서 지우고 ID를 재사용 목록에 넣음
+    private void apply(int docId, TermVector vector, int sign) {
+        for (int i = 0; i < vector.termIds.length; i++) {
+            int termId = vector.termIds[i];
+            Postings list = postings.get(termId);
+            list.add(docId, sign * vector.freqs[i]);
+            if (list.size == 0) {
+                termIds.remove(list.term);
+                postings.set(termId, null);
+                freeTermIds.push(termId);
+            }
+        }
+    }
+
+    /**
+     * 한 단어의 포스팅 목록. docs는 오름차순이며, 게시글 ID는 대부분 증가하는 순서로 들어오므로 보통 배열 끝에 추가됩니다.
+     */
+    private static final class Postings {
+        private final String term;
+        private int[] docs = new int[2];
+        private int[] freqs = new int[2];
+        private int size;
+
+        private Postings(String term) {
+            this.term = term;
+        }
+
+        private void add(int docId, int delta) {
+            int index = indexOf(docId);
+            if (index >= 0) {
+                freqs[index] += delta;
+                if (freqs[index] <= 0) {
+                    System.arraycopy(docs, index + 1, docs, index, size - index - 1);
+                    System.arraycopy(freqs, index + 1, freqs, index, size - index - 1);
+                    size--;
+                }
+                return;
+            }
+            if (delta <= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            System.arraycopy(docs, insertAt, docs, insertAt + 1, size - insertAt);
+            System.arraycopy(freqs, insertAt, freqs, insertAt + 1, size - insertAt);
+            docs[insertAt] = docId;
+            freqs[insertAt] = delta;
+            size++;
+        }
+
+        private int indexOf(int docId) {
+            if (size == 0 || docs[size - 1] < docId) {
+                return -(size + 1); // 끝에 추가하는 흔한 경우는 이진 탐색 생략
+            }
+            return Arrays.binarySearch(docs, 0, size, docId);
+        }
+    }
+
+    // 한 게시글 본문 또는 댓글 하나에서 나온 (단어 ID, 빈도) 목록
+    private static final class TermVector {
+        private final int[] termIds;
+        private final int[] freqs;
+
+        private TermVector(int[] termIds, int[] freqs) {
+            this.termIds = termIds;
+            this.freqs = freqs;
+        }
+    }
+
+    private static final class Document {
+        private TermVector post;
+        private final Map<Long, TermVector> comments = new LinkedHashMap<>();
+    }
+
+    private static final class Score {
+        private int matchedTerms;
+        private double value;
+    }
+}
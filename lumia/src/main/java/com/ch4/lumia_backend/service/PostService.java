@@ -1,12 +1,25 @@
 package com.ch4.lumia_backend.service;
 
+import com.ch4.lumia_backend.dto.CategoryCountDto;
+import com.ch4.lumia_backend.dto.CommentCursor;
+import com.ch4.lumia_backend.dto.CommentResponseDto;
+import com.ch4.lumia_backend.dto.PostDetailResponseDto;
+import com.ch4.lumia_backend.dto.PostCursorResponseDto;
 import com.ch4.lumia_backend.dto.PostRequestDto; // DTO import 추가
+import com.ch4.lumia_backend.dto.PostResponseDto;
+import com.ch4.lumia_backend.dto.PostSummaryDto;
+import com.ch4.lumia_backend.dto.ResourceVersion;
 import com.ch4.lumia_backend.entity.Post;
 import com.ch4.lumia_backend.entity.User;
+import com.ch4.lumia_backend.event.PostChangedEvent;
+import com.ch4.lumia_backend.event.PostsDeletedEvent;
+import com.ch4.lumia_backend.repository.CommentRepository;
+import com.ch4.lumia_backend.repository.PostCategoryCountRepository;
 import com.ch4.lumia_backend.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -14,23 +27,112 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional; // 트랜잭션 어노테이션 추가
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
     private static final Logger logger = LoggerFactory.getLogger(PostService.class);
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    public static final int MAX_BULK_DELETE_SIZE = 1000;
+
     private final PostRepository postRepository;
+    private final PostCategoryCountRepository postCategoryCountRepository;
+    private final CommentRepository commentRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final HotPostRanking hotPostRanking;
+    private final ApplicationEventPublisher eventPublisher; // 커밋 후 목록 캐시 무효화 등에 사용
 
     /**
      * 게시글 목록 조회 (페이징)
+     * 작성자 ID까지 한 번의 SELECT로 가져옵니다 (+ COUNT 쿼리). 본문 대신 excerpt만 반환합니다.
      */
     @Transactional(readOnly = true) // 조회 작업이므로 readOnly = true 설정
-    public Page<Post> getPosts(int page, int size) {
-        logger.debug("Fetching posts - page: {}, size: {}", page, size);
+    public Page<PostSummaryDto> getPosts(int page, int size, String category) {
+        logger.debug("Fetching posts - page: {}, size: {}, category: {}", page, size, category);
         // ID를 기준으로 내림차순 정렬 (최신글부터)
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
-        return postRepository.findAll(pageable);
+        if (category != null) {
+            return postRepository.findPostSummariesByCategory(category, pageable);
+        }
+        return postRepository.findPostSummaries(pageable);
+    }
+
+    /**
+     * 게시글 목록 조회 (커서 방식)
+     * before보다 작은 id의 게시글을 최신순으로 size개 반환합니다. before가 0 이하이면 가장 최신 글부터 조회합니다.
+     * 다음 페이지 존재 여부는 size + 1개를 조회해서 판단하므로 COUNT 쿼리가 필요 없습니다.
+     */
+    @Transactional(readOnly = true)
+    public PostCursorResponseDto getPostsBefore(long before, int size, String category) {
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        long cursor = before > 0 ? before : Long.MAX_VALUE;
+        logger.debug("Fetching posts - before: {}, size: {}, category: {}", cursor, limit, category);
+
+        Pageable pageable = PageRequest.of(0, limit + 1);
+        List<PostSummaryDto> posts = category != null
+                ? postRepository.findPostSummariesByCategoryBefore(category, cursor, pageable)
+                : postRepository.findPostSummariesBefore(cursor, pageable);
+        boolean hasNext = posts.size() > limit;
+        if (hasNext) {
+            posts = posts.subList(0, limit);
+        }
+        Long nextCursor = hasNext ? posts.get(posts.size() - 1).getId() : null;
+        return new PostCursorResponseDto(posts, nextCursor, hasNext);
+    }
+
+    /**
+     * 카테고리별 게시글 수 (미리 집계된 post_category_counts 조회)
+     */
+    @Transactional(readOnly = true)
+    public List<CategoryCountDto> getCategoryCounts() {
+        return postCategoryCountRepository.findCategoryCounts();
+    }
+
+    /**
+     * 게시글 검색 (제목, 내용, 댓글)
+     * 메모리 색인(PostSearchIndex)에서 순위가 매겨진 게시글 ID를 얻고, 해당 게시글들만 한 번에 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummaryDto> searchPosts(String query, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        List<Long> rankedIds = postSearchIndex.search(query, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        return findSummariesInOrder(rankedIds);
+    }
+
+    /**
+     * 인기 게시글 (댓글·조회수 기반, 시간 감쇠)
+     * 순위는 메모리의 HotPostRanking에서 상위 size개만 읽고, 해당 게시글들만 한 번에 조회합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<PostSummaryDto> getHotPosts(int size) {
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        List<Long> rankedIds = hotPostRanking.topPostIds(limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        return findSummariesInOrder(rankedIds);
+    }
+
+    // 주어진 ID 순서를 유지해 요약 조회 (순위 반영 직후 삭제된 글은 제외)
+    private List<PostSummaryDto> findSummariesInOrder(List<Long> rankedIds) {
+        Map<Long, PostSummaryDto> byId = postRepository.findPostSummariesByIds(rankedIds).stream()
+                .collect(Collectors.toMap(PostSummaryDto::getId, Function.identity()));
+        return rankedIds.stream().map(byId::get).filter(Objects::nonNull).toList();
     }
 
     /**
@@ -61,8 +163,13 @@ public class PostService {
                 .author(user)
                 .build();
 
-        logger.info("User {} is creating a new post with title: {}", user.getUserId(), title);
-        return postRepository.save(post);
+        // user는 프록시일 수 있으므로 초기화를 유발하지 않는 getId()만 사용
+        logger.info("User (pk: {}) is creating a new post with title: {}", user.getId(), title);
+        Post savedPost = postRepository.save(post);
+        postCategoryCountRepository.addToCount(savedPost.getCategory(), 1);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId(), savedPost.getCategory(),
+                savedPost.getTitle(), savedPost.getContent(), PostChangedEvent.Type.CREATED));
+        return savedPost;
     }
 
     /**
@@ -77,6 +184,60 @@ public class PostService {
                 });
     }
 
+    /**
+     * 게시글 상세 조회 (응답용, 작성자 ID 포함 단일 SELECT)
+     */
+    @Transactional(readOnly = true)
+    public PostResponseDto getPostResponse(Long id) {
+        return postRepository.findPostResponseById(id)
+                .orElseThrow(() -> {
+                    logger.warn("Post not found with id: {}", id);
+                    return new IllegalArgumentException("ID " + id + "에 해당하는 게시글이 존재하지 않습니다.");
+                });
+    }
+
+    /**
+     * 게시글 상세의 버전 정보 (조건부 GET용). 본문을 읽지 않는 가벼운 쿼리 1회.
+     * 게시글이 없으면 Optional.empty()
+     */
+    @Transactional(readOnly = true)
+    public Optional<ResourceVersion> getPostVersion(Long id) {
+        return postRepository.findVersionById(id).map(version -> {
+            LocalDateTime modified = version.getUpdatedAt() != null ? version.getUpdatedAt() : version.getCreatedAt();
+            long lastModified = ResourceVersion.toEpochMillis(modified);
+            // 조회수는 응답에 없으므로 ETag에도 넣지 않음 (flush 주기마다 재검증이 깨지지 않도록)
+            return new ResourceVersion("post-" + id + "-" + lastModified + "-" + version.getCommentCount());
+        });
+    }
+
+    /**
+     * DB에 반영된 조회수. 게시글이 없으면 IllegalArgumentException
+     */
+    @Transactional(readOnly = true)
+    public long getViewCount(Long id) {
+        return postRepository.findViewCountById(id)
+                .orElseThrow(() -> new IllegalArgumentException("ID " + id + "에 해당하는 게시글이 존재하지 않습니다."));
+    }
+
+    /**
+     * 게시글 상세 + 첫 페이지 댓글 조회
+     * SQL은 두 번만 실행됩니다: 게시글(작성자 조인) 1회, 댓글 첫 페이지 1회. 게시글이 없으면 댓글은 조회하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public PostDetailResponseDto getPostDetail(Long id, int commentSize) {
+        PostResponseDto post = getPostResponse(id);
+        int limit = Math.max(1, Math.min(commentSize, MAX_CURSOR_PAGE_SIZE));
+        List<CommentResponseDto> comments = commentRepository.findCommentResponsesByPostId(id, PageRequest.of(0, limit + 1));
+        boolean hasMoreComments = comments.size() > limit;
+        String nextCommentCursor = null;
+        if (hasMoreComments) {
+            comments = comments.subList(0, limit);
+            CommentResponseDto last = comments.get(limit - 1);
+            nextCommentCursor = new CommentCursor(last.getCreatedAt(), last.getId()).encode(); // 댓글 페이지 API와 같은 커서
+        }
+        return new PostDetailResponseDto(post, comments, hasMoreComments, nextCommentCursor);
+    }
+
     /**
      * 게시글 수정
      */
@@ -85,8 +246,9 @@ public class PostService {
         Post post = getPostById(id); // 내부적으로 findById 사용, 못 찾으면 예외 발생
 
         if (!post.getAuthor().getId().equals(user.getId())) {
-            logger.warn("User {} attempted to update post {} owned by user {}, but has no permission.",
-                        user.getUserId(), id, post.getAuthor().getUserId());
+            // user는 컨트롤러에서 받은 getReferenceById 프록시일 수 있으므로(open-in-view=false에서는 준영속) PK만 사용
+            logger.warn("User (pk: {}) attempted to update post {} owned by user pk {}, but has no permission.",
+                        user.getId(), id, post.getAuthor().getId());
             throw new IllegalArgumentException("게시글 수정 권한이 없습니다.");
         }
 
@@ -102,24 +264,82 @@ public class PostService {
             throw new IllegalArgumentException("내용은 비어 있을 수 없습니다.");
         }
 
+        String previousCategory = post.getCategory();
         post.update(postDto.getCategory(), postDto.getTitle(), postDto.getContent());
-        logger.info("Post {} updated by user {}", id, user.getUserId());
-        return postRepository.save(post);
+        // 게시글 행을 먼저 잠그고(작성/삭제와 같은 순서) 카테고리 행은 이름순으로 갱신해서,
+        // 서로 반대 방향으로 카테고리를 옮기는 수정끼리 또는 삭제와 교착 상태가 되지 않도록 함
+        Post updatedPost = postRepository.saveAndFlush(post);
+        if (!previousCategory.equals(updatedPost.getCategory())) {
+            Map<String, Long> deltas = new TreeMap<>(Map.of(previousCategory, -1L, updatedPost.getCategory(), 1L));
+            deltas.forEach(postCategoryCountRepository::addToCount);
+        }
+        logger.info("Post {} updated by user (pk: {})", id, user.getId());
+        eventPublisher.publishEvent(new PostChangedEvent(id, updatedPost.getCategory(),
+                updatedPost.getTitle(), updatedPost.getContent(), PostChangedEvent.Type.UPDATED));
+        return updatedPost;
     }
 
     /**
      * 게시글 삭제
+     * 댓글 수와 관계없이 SQL 세 번(권한 확인용 SELECT ... FOR UPDATE, 댓글 DELETE 1회, 게시글 DELETE 1회)으로 끝납니다.
+     * cascade/orphanRemoval 경로(postRepository.delete)는 댓글을 모두 읽어 한 건씩 지우므로 사용하지 않습니다.
      */
     @Transactional
     public void deletePost(Long id, User user) {
-        Post post = getPostById(id); // 내부적으로 findById 사용, 못 찾으면 예외 발생
+        PostRepository.PostDeleteView post = postRepository.findDeleteViewsByIdsForUpdate(List.of(id)).stream()
+                .findFirst()
+                .orElseThrow(() -> {
+                    logger.warn("Post not found with id: {}", id);
+                    return new IllegalArgumentException("ID " + id + "에 해당하는 게시글이 존재하지 않습니다.");
+                });
 
-        if (!post.getAuthor().getId().equals(user.getId())) {
-            logger.warn("User {} attempted to delete post {} owned by user {}, but has no permission.",
-                        user.getUserId(), id, post.getAuthor().getUserId());
+        if (!post.getAuthorId().equals(user.getId())) {
+            logger.warn("User (pk: {}) attempted to delete post {} owned by user pk {}, but has no permission.",
+                        user.getId(), id, post.getAuthorId());
             throw new IllegalArgumentException("게시글 삭제 권한이 없습니다.");
         }
-        logger.info("Post {} deleted by user {}", id, user.getUserId());
-        postRepository.delete(post);
+        deleteInBulk(List.of(post));
+        logger.info("Post {} deleted by user (pk: {})", id, user.getId());
+    }
+
+    /**
+     * 관리자용 게시글 일괄 삭제. 존재하지 않는 ID는 무시하고 실제로 삭제한 게시글 수를 반환합니다.
+     */
+    @Transactional
+    public int deletePosts(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("삭제할 게시글 ID를 입력해주세요.");
+        }
+        if (ids.size() > MAX_BULK_DELETE_SIZE) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_BULK_DELETE_SIZE + "개의 게시글만 삭제할 수 있습니다.");
+        }
+        List<PostRepository.PostDeleteView> posts = postRepository.findDeleteViewsByIdsForUpdate(new HashSet<>(ids));
+        if (posts.isEmpty()) {
+            return 0;
+        }
+        int deleted = deleteInBulk(posts);
+        logger.info("Bulk deleted {} post(s) (requested {}).", deleted, ids.size());
+        return deleted;
+    }
+
+    // 댓글 → 게시글 순서로 집합 단위 DELETE 후 카테고리 수 보정, 커밋 후 처리(캐시·검색 색인)를 위한 이벤트 발행
+    // 여러 건이면 글마다가 아니라 PostsDeletedEvent 하나로 묶어 발행
+    private int deleteInBulk(List<PostRepository.PostDeleteView> posts) {
+        List<Long> ids = posts.stream().map(PostRepository.PostDeleteView::getId).collect(Collectors.toList());
+        int deletedComments = commentRepository.deleteAllByPostIds(ids);
+        int deleted = postRepository.deleteAllByIds(ids);
+        logger.debug("Deleted {} comment(s) of {} post(s).", deletedComments, deleted);
+
+        Map<String, Long> perCategory = posts.stream()
+                .collect(Collectors.groupingBy(PostRepository.PostDeleteView::getCategory, TreeMap::new, Collectors.counting()));
+        perCategory.forEach((category, count) -> postCategoryCountRepository.addToCount(category, -count));
+
+        if (posts.size() == 1) {
+            PostRepository.PostDeleteView post = posts.get(0);
+            eventPublisher.publishEvent(new PostChangedEvent(post.getId(), post.getCategory(), null, null, PostChangedEvent.Type.DELETED));
+        } else {
+            eventPublisher.publishEvent(new PostsDeletedEvent(List.copyOf(ids)));
+        }
+        return deleted;
     }
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+// src/main/java/com/ch4/lumia_backend/service/PostViewCounter.java
+package com.ch4.lumia_backend.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수 write-behind 카운터.
+ * 조회할 때마다 posts 행을 UPDATE 하면 인기 글 한 행에 락 경합이 몰리므로, 메모리의 게시글별 LongAdder에 누적했다가
+ * flush-interval-ms 마다 "view_count = view_count + ?" 배치 UPDATE 로 한 번에 반영합니다. 정상 종료 시에도 반영합니다.
+ * 프로세스가 비정상 종료되면 마지막 반영 이후(최대 한 주기)의 조회수는 유실될 수 있습니다. 조회수는 근사치로 취급합니다.
+ * 한 주기 동안 조회가 없던 카운터는 맵에서 빼되 한 주기 더 보관했다가, 그사이 늦게 더해진 조회까지 반영한 뒤 버립니다.
+ */
+@Service
+public class PostViewCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostViewCounter.class);
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // 지난 주기에 pending에서 뺀 카운터. 빼기 직전에 카운터를 얻은 요청의 증가분을 다음 주기에 회수 (flush 안에서만 접근)
+    private Map<Long, LongAdder> retired = new TreeMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final HotPostRanking hotPostRanking;
+    private final DistributionSummary batchSizeSummary;
+    private volatile long lastFlushMillis = System.currentTimeMillis();
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate, HotPostRanking hotPostRanking, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.hotPostRanking = hotPostRanking;
+        this.batchSizeSummary = DistributionSummary.builder("post.view.flush.batch.size")
+                .description("Posts updated by each view count flush")
+                .register(meterRegistry);
+        Gauge.builder("post.view.flush.lag", this, counter -> System.currentTimeMillis() - counter.lastFlushMillis)
+                .description("Milliseconds since the last successful view count flush")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("post.view.pending.posts", pending, Map::size)
+                .description("Posts with view counts tracked in memory")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 1회 기록. DB 접근 없이 메모리 카운터만 증가시킵니다.
+     */
+    public void increment(Long postId) {
+        pending.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pendingCount(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0 : Math.max(0, adder.sum());
+    }
+
+    @Scheduled(initialDelayString = "${post.view-counter.flush-interval-ms:5000}",
+               fixedDelayString = "${post.view-counter.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        // 읽은 만큼만 빼므로(sum 후 add(-delta)) 반영 중에 들어온 조회는 다음 주기로 넘어갑니다.
+        // id 순으로 정렬해 여러 인스턴스가 동시에 반영해도 행 락 순서가 같도록 합니다.
+        Map<Long, Long> deltas = new TreeMap<>();
+        retired.forEach((postId, adder) -> {
+            long late = adder.sumThenReset();
+            if (late > 0) {
+                deltas.merge(postId, late, Long::sum);
+            }
+        });
+        retired = new TreeMap<>();
+
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            LongAdder adder = entry.getValue();
+            long delta = adder.sum();
+            if (delta > 0) {
+                adder.add(-delta);
+                deltas.merge(entry.getKey(), delta, Long::sum);
+            } else if (pending.remove(entry.getKey(), adder)) {
+                // 한 주기 동안 조회가 없던 글은 맵에서 빼고, sum() 확인 뒤에 더해진 조회는 다음 주기에 retired에서 회수
+                retired.put(entry.getKey(), adder);
+            }
+        }
+        if (deltas.isEmpty()) {
+            lastFlushMillis = System.currentTimeMillis();
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> args.add(new Object[]{delta, postId}));
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, args);
+            batchSizeSummary.record(args.size());
+            lastFlushMillis = System.currentTimeMillis();
+            hotPostRanking.recordViews(deltas); // 인기글 점수는 DB에 반영된 증분 기준으로 갱신
+            logger.debug("Flushed view counts for {} post(s).", args.size());
+        } catch (Exception e) {
+            // 실패한 증분은 되돌려 두고 다음 주기에 다시 시도
+            deltas.forEach((postId, delta) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+            logger.error("View count flush failed for {} post(s): {}", args.size(), e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,99 @@
+// src/main/java/com/ch4/lumia_backend/service/QuestionPoolService.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.dto.QuestionDto;
+import com.ch4.lumia_backend.entity.Question;
+import com.ch4.lumia_backend.repository.QuestionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 활성 질문을 questionType별 불변 배열로 메모리에 들고 있다가 DB 조회 없이 O(1)로 무작위 선택하는 풀.
+ * ORDER BY RAND()는 호출마다 해당 타입의 모든 행을 정렬하므로, 가장 호출이 많은 질문 폴링 경로에서 사용하지 않습니다.
+ * 풀은 시작 직후와 refresh-interval-ms 마다 통째로 새로 만들어 교체하며(읽는 쪽은 락 없음),
+ * 질문을 추가/수정하는 코드에서는 refresh()를 호출해 바로 반영할 수 있습니다.
+ * 풀에 해당 타입이 없으면(시작 직후 등) 기존 쿼리 방식으로 조회합니다.
+ */
+@Service
+public class QuestionPoolService {
+
+    private static final Logger logger = LoggerFactory.getLogger(QuestionPoolService.class);
+
+    private final QuestionRepository questionRepository;
+    private final Counter fallbackCounter;
+    private volatile Map<String, QuestionDto[]> pool = Map.of();
+
+    public QuestionPoolService(QuestionRepository questionRepository, MeterRegistry meterRegistry) {
+        this.questionRepository = questionRepository;
+        this.fallbackCounter = Counter.builder("question.pool.fallback")
+                .description("Question picks served by the database query because the pool had no entry")
+                .register(meterRegistry);
+        Gauge.builder("question.pool.size", this, QuestionPoolService::size)
+                .description("Active questions held in the in-memory pool")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 해당 타입의 활성 질문 중 하나를 균등 확률로 선택
+     */
+    public Optional<QuestionDto> pick(String questionType) {
+        QuestionDto[] questions = pool.get(questionType);
+        if (questions != null && questions.length > 0) {
+            return Optional.of(questions[ThreadLocalRandom.current().nextInt(questions.length)]);
+        }
+        fallbackCounter.increment();
+        return questionRepository.findRandomActiveQuestionByType(questionType).map(QuestionDto::fromEntity);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            refresh(); // 초기 데이터 삽입(CommandLineRunner) 이후에 로드
+        } catch (Exception e) {
+            // 실패해도 기동은 계속: 풀이 비어 있는 동안은 기존 쿼리 방식으로 조회하고 다음 주기에 다시 시도
+            logger.error("Initial question pool load failed, falling back to queries until the next refresh: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${question.pool.refresh-interval-ms:60000}",
+               fixedDelayString = "${question.pool.refresh-interval-ms:60000}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            logger.error("Question pool refresh failed, keeping the previous pool: {}", e.getMessage(), e);
+        }
+    }
+
+    // 조회 한 번뿐이라 트랜잭션이 필요 없음 (내부 호출이라 @Transactional을 붙여도 프록시를 거치지 않음)
+    public void refresh() {
+        List<Question> activeQuestions = questionRepository.findByIsActiveTrue();
+        Map<String, List<QuestionDto>> grouped = activeQuestions.stream()
+                .filter(question -> question.getQuestionType() != null)
+                .map(QuestionDto::fromEntity)
+                .collect(Collectors.groupingBy(QuestionDto::getQuestionType));
+
+        Map<String, QuestionDto[]> next = new HashMap<>();
+        grouped.forEach((type, questions) -> next.put(type, questions.toArray(new QuestionDto[0])));
+        pool = Map.copyOf(next);
+        logger.debug("Question pool refreshed: {} active question(s) in {} type(s).", activeQuestions.size(), next.size());
+    }
+
+    public int size() {
+        return pool.values().stream().mapToInt(questions -> questions.length).sum();
+    }
+}
\ No newline at end of file
@@ -2,11 +2,8 @@ package com.ch4.lumia_backend.service;
 
 import com.ch4.lumia_backend.dto.NewMessageResponseDto;
 import com.ch4.lumia_backend.dto.QuestionDto;
-import com.ch4.lumia_backend.entity.Question;
 import com.ch4.lumia_backend.entity.User;
 import com.ch4.lumia_backend.entity.UserSetting;
-import com.ch4.lumia_backend.repository.QuestionRepository;
-import com.ch4.lumia_backend.repository.UserRepository;
 import com.ch4.lumia_backend.repository.UserSettingRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -25,14 +22,13 @@ public class QuestionService {
 
     private static final Logger logger = LoggerFactory.getLogger(QuestionService.class);
 
-    private final QuestionRepository questionRepository;
-    private final UserRepository userRepository;
+    private final QuestionPoolService questionPoolService;
+    private final UserLookupService userLookupService;
     private final UserSettingRepository userSettingRepository;
 
     @Transactional
     public NewMessageResponseDto getScheduledQuestionForUser(String userId) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        User user = userLookupService.getReference(userId);
 
         UserSetting setting = userSettingRepository.findByUser(user)
                 .orElseThrow(() -> new IllegalStateException("사용자 설정을 찾을 수 없습니다."));
@@ -54,11 +50,11 @@ public class QuestionService {
         }
 
         if (shouldProvideMessage) {
-            Optional<Question> questionOpt = questionRepository.findRandomActiveQuestionByType("SCHEDULED_MESSAGE");
+            Optional<QuestionDto> questionOpt = questionPoolService.pick("SCHEDULED_MESSAGE");
             if (questionOpt.isPresent()) {
                 setting.setLastScheduledMessageAt(now);
-                logger.info("Providing new scheduled message (ID: {}) to user {}", questionOpt.get().getId(), userId);
-                return new NewMessageResponseDto(true, QuestionDto.fromEntity(questionOpt.get()));
+                logger.info("Providing new scheduled message (ID: {}) to user {}", questionOpt.get().getQuestionId(), userId);
+                return new NewMessageResponseDto(true, questionOpt.get());
             }
         }
         return new NewMessageResponseDto(false, null);
@@ -66,8 +62,7 @@ public class QuestionService {
     
     @Transactional
     public NewMessageResponseDto getDailyMoodQuestionForUser(String userId) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        User user = userLookupService.getReference(userId);
 
         UserSetting setting = userSettingRepository.findByUser(user)
                 .orElseThrow(() -> new IllegalStateException("사용자 설정을 찾을 수 없습니다."));
@@ -80,11 +75,11 @@ public class QuestionService {
             return new NewMessageResponseDto(false, null);
         }
 
-        Optional<Question> questionOpt = questionRepository.findRandomActiveQuestionByType("DAILY_MOOD");
+        Optional<QuestionDto> questionOpt = questionPoolService.pick("DAILY_MOOD");
         if (questionOpt.isPresent()) {
             setting.setLastDailyMoodAt(LocalDateTime.now());
-            logger.info("Providing new daily mood question (ID: {}) to user {}", questionOpt.get().getId(), userId);
-            return new NewMessageResponseDto(true, QuestionDto.fromEntity(questionOpt.get()));
+            logger.info("Providing new daily mood question (ID: {}) to user {}", questionOpt.get().getQuestionId(), userId);
+            return new NewMessageResponseDto(true, questionOpt.get());
         } else {
             logger.warn("No active 'DAILY_MOOD' type questions found.");
             return new NewMessageResponseDto(false, null);
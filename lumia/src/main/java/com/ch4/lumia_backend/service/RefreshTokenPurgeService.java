@@ -0,0 +1,69 @@
+// src/main/java/com/ch4/lumia_backend/service/RefreshTokenPurgeService.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료된 리프레시 토큰을 주기적으로 삭제하는 서비스.
+ * expiry_date 인덱스를 타는 DELETE ... LIMIT 를 청크 단위로 반복하고, 청크마다 별도 트랜잭션으로 커밋하므로
+ * 한 번에 많은 행을 지워도 락을 오래 잡지 않습니다.
+ */
+@Service
+public class RefreshTokenPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenPurgeService.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int batchSize;
+    private final Counter deletedCounter;
+    private final Timer purgeTimer;
+
+    public RefreshTokenPurgeService(RefreshTokenRepository refreshTokenRepository,
+                                    @Value("${refresh-token.purge.batch-size:1000}") int batchSize,
+                                    MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = Math.max(1, batchSize);
+        this.deletedCounter = Counter.builder("refresh.token.purge.deleted")
+                .description("Expired refresh tokens deleted by the purge job")
+                .register(meterRegistry);
+        this.purgeTimer = Timer.builder("refresh.token.purge.duration")
+                .description("Duration of each refresh token purge run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${refresh-token.purge.initial-delay-ms:60000}",
+               fixedDelayString = "${refresh-token.purge.interval-ms:3600000}")
+    public void purgeExpiredTokens() {
+        long startNanos = System.nanoTime();
+        Instant now = Instant.now(); // 실행 도중 만료되는 토큰은 다음 실행에서 처리
+        long totalDeleted = 0;
+        int chunks = 0;
+        try {
+            int deleted;
+            do {
+                deleted = refreshTokenRepository.deleteExpiredBatch(now, batchSize);
+                totalDeleted += deleted;
+                chunks++;
+            } while (deleted == batchSize);
+        } catch (Exception e) {
+            logger.error("Refresh token purge failed after deleting {} row(s): {}", totalDeleted, e.getMessage(), e);
+        } finally {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            purgeTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            deletedCounter.increment(totalDeleted);
+            logger.info("Refresh token purge deleted {} expired row(s) in {} chunk(s), took {} ms.",
+                        totalDeleted, chunks, TimeUnit.NANOSECONDS.toMillis(elapsedNanos));
+        }
+    }
+}
@@ -3,8 +3,8 @@ package com.ch4.lumia_backend.service;
 
 import com.ch4.lumia_backend.entity.RefreshToken;
 import com.ch4.lumia_backend.entity.User;
+import com.ch4.lumia_backend.exception.InvalidRefreshTokenException;
 import com.ch4.lumia_backend.repository.RefreshTokenRepository;
-import com.ch4.lumia_backend.repository.UserRepository;
 import com.ch4.lumia_backend.security.jwt.JwtUtil; // JwtUtil 주입
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger; // Logger 추가
@@ -13,8 +13,13 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.HexFormat;
 import java.util.Optional;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -24,86 +29,107 @@ public class RefreshTokenService {
     private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
 
     private final RefreshTokenRepository refreshTokenRepository;
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
     private final JwtUtil jwtUtil;
 
     @Value("${jwt.refresh.token.validity.ms}")
     private Long refreshTokenDurationMs;
 
     /**
-     * 지정된 사용자에 대한 리프레시 토큰을 생성하거나 업데이트합니다.
-     * 기존 토큰이 있으면 해당 토큰의 값과 만료 시간을 업데이트합니다.
-     * 기존 토큰이 없으면 새로 생성하여 저장합니다.
-     * @param userId 리프레시 토큰을 생성/업데이트할 사용자의 ID
-     * @return 생성되거나 업데이트된 RefreshToken 엔티티
+     * 로그인 시 새 리프레시 토큰 패밀리를 발급합니다.
+     * 사용자당 하나의 세션만 유지하기 위해 해당 사용자의 기존 토큰(이전 패밀리 포함)은 모두 삭제합니다.
+     * @param user 리프레시 토큰을 생성/업데이트할 사용자 (로그인 시 이미 조회된 엔티티)
+     * @return 새로 저장된 RefreshToken 엔티티 (getToken()으로 원문을 얻을 수 있음)
      */
     @Transactional
-    public RefreshToken createOrUpdateRefreshToken(String userId) { // 메소드 이름 변경 (선택 사항)
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> {
-                    logger.error("User not found with ID {} for creating/updating refresh token.", userId);
-                    return new RuntimeException("Error: User not found with ID " + userId + " for creating/updating refresh token.");
-                });
-
-        String newTokenValue = jwtUtil.generateRefreshToken(userId);
-        Instant newExpiryDate = Instant.now().plusMillis(refreshTokenDurationMs);
+    public RefreshToken createOrUpdateRefreshToken(User user) { // 메소드 이름 변경 (선택 사항)
+        refreshTokenRepository.deleteByUser(user);
+        logger.info("Issuing new refresh token family for user ID: {}", user.getUserId());
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    /**
+     * 리프레시 토큰을 순환(rotation)합니다. 제시된 토큰은 사용 처리되고 같은 패밀리의 새 토큰이 발급됩니다.
+     * 이미 사용된 토큰이 다시 제시되면 탈취로 간주하고 패밀리 전체를 폐기합니다.
+     * 폐기/삭제 결과는 예외가 발생해도 커밋되어야 하므로 InvalidRefreshTokenException에 대해서는 롤백하지 않습니다.
+     * @param rawToken 클라이언트가 보낸 리프레시 토큰 원문
+     * @return 새로 발급된 RefreshToken 엔티티 (getToken()으로 원문을 얻을 수 있음)
+     * @throws InvalidRefreshTokenException 토큰이 없거나, 만료되었거나, 재사용된 경우
+     */
+    @Transactional(noRollbackFor = InvalidRefreshTokenException.class)
+    public RefreshToken rotate(String rawToken) {
+        RefreshToken current = findByToken(rawToken)
+                .orElseThrow(() -> new InvalidRefreshTokenException("Refresh token is not in database or invalid!"));
 
-        // 해당 사용자의 기존 리프레시 토큰을 찾음
-        Optional<RefreshToken> existingTokenOpt = refreshTokenRepository.findByUser(user);
-
-        RefreshToken refreshTokenToSave;
-        if (existingTokenOpt.isPresent()) {
-            // 기존 토큰이 있으면, 해당 토큰의 값과 만료 시간을 업데이트
-            refreshTokenToSave = existingTokenOpt.get();
-            refreshTokenToSave.setToken(newTokenValue); // RefreshToken 엔티티에 setToken 메소드 필요
-            refreshTokenToSave.setExpiryDate(newExpiryDate); // RefreshToken 엔티티에 setExpiryDate 메소드 필요
-            logger.info("Updating existing refresh token for user ID: {}", userId);
-        } else {
-            // 기존 토큰이 없으면, 새로 생성
-            refreshTokenToSave = new RefreshToken(user, newTokenValue, newExpiryDate);
-            logger.info("Creating new refresh token for user ID: {}", userId);
+        if (current.isRevoked() || refreshTokenRepository.markRotated(current.getId()) == 0) {
+            int revokedCount = refreshTokenRepository.revokeFamily(current.getFamilyId());
+            logger.warn("Reuse of rotated refresh token ID {} detected. Revoked {} token(s) in family {}.",
+                        current.getId(), revokedCount, current.getFamilyId());
+            throw new InvalidRefreshTokenException("Refresh token was already used. Please make a new signin request.");
         }
-        
-        // save 메소드는 엔티티가 새 것이면 INSERT, 이미 존재하면 (Id로 찾아) UPDATE를 실행
-        return refreshTokenRepository.save(refreshTokenToSave);
+
+        verifyExpiration(current);
+        return issue(current.getUser(), current.getFamilyId());
+    }
+
+    private RefreshToken issue(User user, String familyId) {
+        String newTokenValue = jwtUtil.generateRefreshToken(user.getUserId());
+        Instant newExpiryDate = Instant.now().plusMillis(refreshTokenDurationMs);
+
+        RefreshToken refreshToken = new RefreshToken(user, hashToken(newTokenValue), familyId, newExpiryDate);
+        RefreshToken saved = refreshTokenRepository.save(refreshToken);
+        saved.setToken(newTokenValue); // 원문은 응답으로만 전달하고 DB에는 저장하지 않음
+        return saved;
     }
 
     /**
      * 제공된 토큰 문자열로 RefreshToken 엔티티를 찾습니다.
+     * 원문 대신 SHA-256 다이제스트로 조회합니다.
      * @param token 찾을 리프레시 토큰 문자열
      * @return Optional<RefreshToken>
      */
     public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByToken(token);
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+        return refreshTokenRepository.findByTokenHash(hashToken(token));
     }
 
     /**
      * 제공된 RefreshToken이 만료되었는지 확인하고, 만료되었다면 DB에서 삭제 후 예외를 발생시킵니다.
      * @param token 검증할 RefreshToken 엔티티
      * @return 만료되지 않았다면 동일한 RefreshToken 엔티티
-     * @throws RuntimeException 리프레시 토큰이 만료된 경우
+     * @throws InvalidRefreshTokenException 리프레시 토큰이 만료된 경우
      */
     public RefreshToken verifyExpiration(RefreshToken token) {
         if (token.getExpiryDate().compareTo(Instant.now()) < 0) {
             logger.warn("Refresh token ID {} for user ID {} expired at {}. Deleting.", 
                         token.getId(), token.getUser().getUserId(), token.getExpiryDate());
             refreshTokenRepository.delete(token);
-            throw new RuntimeException("Error: Refresh token '" + token.getToken() + "' was expired. Please make a new signin request.");
+            throw new InvalidRefreshTokenException("Error: Refresh token ID " + token.getId() + " was expired. Please make a new signin request.");
         }
         return token;
     }
 
+    /**
+     * 리프레시 토큰 원문의 SHA-256 다이제스트를 hex 문자열(64자)로 반환합니다.
+     */
+    public static String hashToken(String rawToken) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(rawToken.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+
     /**
      * 특정 사용자의 모든 리프레시 토큰을 DB에서 삭제합니다. (예: 로그아웃 시 호출)
      * @param userId 토큰을 삭제할 사용자의 ID
      */
     @Transactional
     public void deleteByUserId(String userId) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> {
-                     logger.error("User not found with ID {} for deleting refresh tokens.", userId);
-                     return new RuntimeException("Error: User not found with ID " + userId + " for deleting refresh tokens.");
-                });
+        User user = userLookupService.getReference(userId);
         refreshTokenRepository.deleteByUser(user); // void 반환 타입에 맞게 수정
         logger.info("Attempted to delete refresh token(s) for user ID: {}", userId); // 로그 메시지 변경 (삭제된 수를 알 수 없으므로)
     }
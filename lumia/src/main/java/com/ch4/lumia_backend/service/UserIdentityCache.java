@@ -0,0 +1,161 @@
+// src/main/java/com/ch4/lumia_backend/service/UserIdentityCache.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.entity.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 ID → 사용자 기본 정보(PK, 권한, 닉네임, 이메일) 스냅샷 캐시.
+ * 항목은 TTL이 지나면 만료되고, 최대 개수를 넘으면 만료 항목부터 정리한 뒤 남는 만큼 임의로 제거합니다.
+ * 사용자 정보가 바뀌는 곳(UserService)에서 invalidate()를 호출해야 합니다.
+ */
+@Component
+public class UserIdentityCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expiredEvictions = new LongAdder();
+    private final LongAdder sizeEvictions = new LongAdder();
+
+    private final long ttlMillis;
+    private final int maxSize;
+
+    public UserIdentityCache(@Value("${user.identity-cache.ttl-ms:300000}") long ttlMillis,
+                             @Value("${user.identity-cache.max-size:10000}") int maxSize,
+                             MeterRegistry meterRegistry) {
+        this.ttlMillis = ttlMillis;
+        this.maxSize = Math.max(1, maxSize);
+        FunctionCounter.builder("user.identity.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("user.identity.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("user.identity.cache.evictions", expiredEvictions, LongAdder::sum)
+                .tag("cause", "expired")
+                .register(meterRegistry);
+        FunctionCounter.builder("user.identity.cache.evictions", sizeEvictions, LongAdder::sum)
+                .tag("cause", "size")
+                .register(meterRegistry);
+        Gauge.builder("user.identity.cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 스냅샷을 반환합니다. 없거나 만료된 경우 null.
+     */
+    public UserIdentity get(String userLoginId) {
+        Entry entry = entries.get(userLoginId);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAtMillis <= System.currentTimeMillis()) {
+            if (entries.remove(userLoginId, entry)) {
+                expiredEvictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.identity;
+    }
+
+    public UserIdentity put(User user) {
+        UserIdentity identity = UserIdentity.from(user);
+        long now = System.currentTimeMillis();
+        if (entries.size() >= maxSize) {
+            evict(now);
+        }
+        entries.put(identity.getUserId(), new Entry(identity, now + ttlMillis));
+        return identity;
+    }
+
+    /**
+     * 항목을 즉시 제거하고, 트랜잭션 안이면 커밋 후에 한 번 더 제거합니다.
+     * (커밋 전에 다른 요청이 이전 값으로 다시 채워 넣는 경우를 막기 위함)
+     */
+    public void invalidate(String userLoginId) {
+        entries.remove(userLoginId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entries.remove(userLoginId);
+                }
+            });
+        }
+    }
+
+    // 만료 항목을 먼저 정리하고, 그래도 가득 차 있으면 최대 개수의 90%가 될 때까지 임의의 항목을 제거
+    private synchronized void evict(long now) {
+        if (entries.size() < maxSize) {
+            return;
+        }
+        int before = entries.size();
+        entries.values().removeIf(entry -> entry.expiresAtMillis <= now);
+        expiredEvictions.add(before - entries.size());
+
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<String> iterator = entries.keySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            sizeEvictions.increment();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 캐시에 보관되는 불변 사용자 정보. 엔티티가 아니므로 트랜잭션 밖에서도 안전하게 사용할 수 있습니다.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static final class UserIdentity {
+        private final Long userPkId;
+        private final String userId;
+        private final String role;
+        private final String username;
+        private final String email;
+
+        static UserIdentity from(User user) {
+            return new UserIdentity(user.getId(), user.getUserId(), user.getRole(), user.getUsername(), user.getEmail());
+        }
+    }
+
+    private static final class Entry {
+        private final UserIdentity identity;
+        private final long expiresAtMillis;
+
+        private Entry(UserIdentity identity, long expiresAtMillis) {
+            this.identity = identity;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+// src/main/java/com/ch4/lumia_backend/service/UserLookupService.java
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.entity.User;
+import com.ch4.lumia_backend.repository.UserRepository;
+import com.ch4.lumia_backend.security.jwt.JwtUserPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 로그인 ID로 User 엔티티를 얻는 공통 진입점.
+ * 현재 요청의 Access Token에 PK가 들어 있거나 UserIdentityCache에 PK가 있으면 SELECT 없이 getReferenceById()로 프록시를 반환하고,
+ * 그렇지 않으면 findByUserId()로 조회한 뒤 캐시에 넣습니다.
+ * 반환된 프록시는 getId() 외의 필드에 접근하는 순간 로딩되므로, 연관관계 설정/조건 검색 용도로 사용하세요.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserLookupService {
+
+    private final UserRepository userRepository;
+    private final UserIdentityCache userIdentityCache;
+
+    @Transactional(readOnly = true)
+    public User getReference(String userLoginId) {
+        Long userPkId = currentUserPkId(userLoginId);
+        if (userPkId == null) {
+            userPkId = getIdentity(userLoginId).getUserPkId();
+        }
+        return userRepository.getReferenceById(userPkId);
+    }
+
+    /**
+     * 로그인 ID에 해당하는 사용자 기본 정보(PK, 권한, 닉네임, 이메일)를 캐시에서 반환합니다. 없으면 조회 후 캐시합니다.
+     */
+    @Transactional(readOnly = true)
+    public UserIdentityCache.UserIdentity getIdentity(String userLoginId) {
+        UserIdentityCache.UserIdentity cached = userIdentityCache.get(userLoginId);
+        if (cached != null) {
+            return cached;
+        }
+        User user = userRepository.findByUserId(userLoginId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userLoginId));
+        return userIdentityCache.put(user);
+    }
+
+    /**
+     * 현재 인증 정보가 같은 로그인 ID의 토큰이면 토큰에 담긴 PK를 반환합니다.
+     */
+    private Long currentUserPkId(String userLoginId) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtUserPrincipal principal
+                && principal.getUserId().equals(userLoginId)) {
+            return principal.getUserPkId();
+        }
+        return null;
+    }
+}
@@ -7,15 +7,16 @@ import com.ch4.lumia_backend.dto.UserProfileResponseDto;
 import com.ch4.lumia_backend.dto.UserProfileUpdateRequestDto;
 import com.ch4.lumia_backend.entity.User;
 import com.ch4.lumia_backend.entity.UserSetting;
+import com.ch4.lumia_backend.exception.TooManyRequestsException;
 import com.ch4.lumia_backend.repository.UserRepository;
 import com.ch4.lumia_backend.repository.UserSettingRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 import java.util.Optional;
@@ -26,17 +27,45 @@ public class UserService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService; // BCrypt는 전용 스레드 풀에서 실행
     private final UserSettingRepository userSettingRepository;
-
-    @Transactional(readOnly = true)
-    public boolean login(String userId, String rawPassword) {
+    private final UserIdentityCache userIdentityCache; // 사용자 정보 변경 시 무효화
+    private final TransactionTemplate transactionTemplate; // BCrypt 계산 뒤 저장만 짧은 트랜잭션으로 묶을 때 사용
+
+    /**
+     * 아이디/비밀번호를 확인하고, 일치하면 토큰 발급에 사용할 User를 반환합니다.
+     * 저장된 해시가 이전 형식이거나 현재보다 낮은 cost이면 이때 다시 해싱해서 저장합니다.
+     * 재해싱은 부가 작업이라 실패해도(해싱 풀 포화 등) 로그인은 그대로 성공시키고 다음 로그인 때 다시 시도합니다.
+     * BCrypt 대기 중에 DB 커넥션을 잡고 있지 않도록 트랜잭션을 걸지 않습니다.
+     * (조회와 재해싱 저장은 각각 리포지토리의 짧은 트랜잭션에서 실행)
+     */
+    public Optional<User> login(String userId, String rawPassword) {
         Optional<User> optionalUser = userRepository.findByUserId(userId);
         if (optionalUser.isPresent()) {
             User foundUser = optionalUser.get();
-            return passwordEncoder.matches(rawPassword, foundUser.getPassword());
+            String storedHash = foundUser.getPassword();
+            if (passwordHashingService.matches(rawPassword, storedHash)) {
+                if (passwordHashingService.needsRehash(storedHash)) {
+                    rehashQuietly(foundUser, storedHash, rawPassword);
+                }
+                return optionalUser;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void rehashQuietly(User user, String storedHash, String rawPassword) {
+        try {
+            String newHash = passwordHashingService.encode(rawPassword);
+            if (userRepository.updatePasswordIfUnchanged(user.getId(), storedHash, newHash) > 0) {
+                user.setPassword(newHash);
+                logger.info("Rehashed password of user {} with the current BCrypt settings.", user.getUserId());
+            }
+        } catch (TooManyRequestsException e) {
+            logger.info("Skipped password rehash of user {}: hashing pool is busy.", user.getUserId());
+        } catch (RuntimeException e) {
+            logger.warn("Skipped password rehash of user {}: {}", user.getUserId(), e.getMessage());
         }
-        return false;
     }
     
     @Transactional(readOnly = true)
@@ -55,7 +84,9 @@ public class UserService {
         return user.getUserId();
     }
 
-    @Transactional
+    /**
+     * 중복 확인과 BCrypt 계산은 트랜잭션 밖에서 하고, 사용자/기본 설정 저장만 하나의 트랜잭션으로 묶습니다.
+     */
     public User signup(SignupRequestDto signupRequestDto) {
         if (userRepository.findByUserId(signupRequestDto.getUserId()).isPresent()) {
             throw new IllegalArgumentException("이미 사용 중인 아이디입니다.");
@@ -64,7 +95,7 @@ public class UserService {
             throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
         }
 
-        String encodedPassword = passwordEncoder.encode(signupRequestDto.getPassword());
+        String encodedPassword = passwordHashingService.encode(signupRequestDto.getPassword());
 
         User newUser = User.builder()
                 .userId(signupRequestDto.getUserId())
@@ -75,16 +106,18 @@ public class UserService {
                 .build();
 
         try {
-            User savedUser = userRepository.save(newUser);
-            logger.info("User {} signed up successfully.", savedUser.getUserId());
-
-            UserSetting defaultSettings = UserSetting.builder()
-                    .user(savedUser)
-                    .inAppNotificationEnabled(true)
-                    .pushNotificationEnabled(true)
-                    .build();
-            userSettingRepository.save(defaultSettings);
-            logger.info("Default settings created for user {}.", savedUser.getUserId());
+            User savedUser = transactionTemplate.execute(status -> {
+                User saved = userRepository.save(newUser);
+                UserSetting defaultSettings = UserSetting.builder()
+                        .user(saved)
+                        .inAppNotificationEnabled(true)
+                        .pushNotificationEnabled(true)
+                        .build();
+                userSettingRepository.save(defaultSettings);
+                return saved;
+            });
+            userIdentityCache.invalidate(savedUser.getUserId());
+            logger.info("User {} signed up successfully with default settings.", savedUser.getUserId());
 
             return savedUser;
         } catch (DataIntegrityViolationException e) {
@@ -146,6 +179,7 @@ public class UserService {
 
         if (isProfileUpdated) {
             User updatedUser = userRepository.save(user);
+            userIdentityCache.invalidate(userLoginId);
             return UserProfileResponseDto.fromEntity(updatedUser);
         } else {
             return UserProfileResponseDto.fromEntity(user);
@@ -168,15 +202,19 @@ public class UserService {
             }
             user.setEmail(newEmail);
             userRepository.save(user);
+            userIdentityCache.invalidate(userLoginId);
         }
     }
 
-    @Transactional
+    /**
+     * 로그인과 마찬가지로 BCrypt 계산은 트랜잭션 밖에서 하고, 읽어온 해시가 그대로일 때만 새 해시로 교체합니다.
+     */
     public void updateUserPassword(String userLoginId, PasswordUpdateRequestDto passwordDto) {
         User user = userRepository.findByUserId(userLoginId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userLoginId));
+        String storedHash = user.getPassword();
 
-        if (!passwordEncoder.matches(passwordDto.getCurrentPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(passwordDto.getCurrentPassword(), storedHash)) {
             throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
         }
         
@@ -187,7 +225,10 @@ public class UserService {
             throw new IllegalArgumentException("새 비밀번호는 현재 비밀번호와 달라야 합니다.");
         }
 
-        user.setPassword(passwordEncoder.encode(passwordDto.getNewPassword()));
-        userRepository.save(user);
+        String newHash = passwordHashingService.encode(passwordDto.getNewPassword());
+        if (userRepository.updatePasswordIfUnchanged(user.getId(), storedHash, newHash) == 0) {
+            throw new IllegalArgumentException("비밀번호가 다른 요청에서 이미 변경되었습니다. 다시 시도해주세요.");
+        }
+        userIdentityCache.invalidate(userLoginId);
     }
 }
\ No newline at end of file
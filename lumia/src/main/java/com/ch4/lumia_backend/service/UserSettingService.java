@@ -3,7 +3,6 @@ package com.ch4.lumia_backend.service;
 import com.ch4.lumia_backend.dto.UserSettingDto;
 import com.ch4.lumia_backend.entity.User;
 import com.ch4.lumia_backend.entity.UserSetting;
-import com.ch4.lumia_backend.repository.UserRepository;
 import com.ch4.lumia_backend.repository.UserSettingRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,12 +13,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserSettingService {
 
     private final UserSettingRepository userSettingRepository;
-    private final UserRepository userRepository;
+    private final UserLookupService userLookupService;
 
     @Transactional(readOnly = true)
     public UserSettingDto getUserSettings(String userId) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        User user = userLookupService.getReference(userId);
 
         UserSetting userSetting = userSettingRepository.findByUser(user)
                 .orElseGet(() -> {
@@ -35,8 +33,7 @@ public class UserSettingService {
 
     @Transactional
     public UserSettingDto updateUserSettings(String userId, UserSettingDto userSettingDto) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        User user = userLookupService.getReference(userId);
         UserSetting userSetting = userSettingRepository.findByUser(user)
                 .orElseThrow(() -> new IllegalArgumentException("사용자 설정을 찾을 수 없습니다. 회원가입 시 생성되어야 합니다."));
 
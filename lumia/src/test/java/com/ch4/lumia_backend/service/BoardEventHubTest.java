@@ -0,0 +1,107 @@
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.dto.BoardEventDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 전송이 멈춘(소켓 쓰기에서 블록된) 구독자가 있어도 다른 구독자에게는 알림이 계속 전달되는지 확인합니다.
+ */
+class BoardEventHubTest {
+
+    private static final long SEND_TIMEOUT_MS = 200;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoardEventHub hub;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // dispatcher 스레드 1개: 멈춘 전송 하나가 그대로 전체 전달을 막는 조건
+        hub = new BoardEventHub(64, 100, 60_000, 1, SEND_TIMEOUT_MS, 4, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void stalledSubscriberDoesNotDelayOthers() throws Exception {
+        StalledEmitter stalled = new StalledEmitter();
+        hub.register(stalled);
+        assertThat(stalled.sendEntered.await(1, TimeUnit.SECONDS)).isTrue(); // 유일한 dispatcher 스레드가 블록됨
+
+        RecordingEmitter healthy = new RecordingEmitter(2); // 연결 직후 하트비트 + 게시글 알림
+        hub.register(healthy);
+        hub.publish(new BoardEventDto("post-created", 1L, "FREE", "제목", null));
+
+        Thread.sleep(SEND_TIMEOUT_MS + 50);
+        hub.checkStalledSends();
+
+        assertThat(healthy.received.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(meterRegistry.get("board.events.subscribers").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.events.send-timeouts").counter().count()).isEqualTo(1);
+
+        // 멈췄던 전송이 풀리면 그 스레드가 연결을 정리
+        stalled.release.countDown();
+        assertThat(stalled.completed.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void sendsWithinTimeoutAreNotDropped() throws Exception {
+        RecordingEmitter healthy = new RecordingEmitter(2);
+        hub.register(healthy);
+        hub.publish(new BoardEventDto("post-created", 1L, "FREE", "제목", null));
+
+        assertThat(healthy.received.await(1, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(SEND_TIMEOUT_MS + 50);
+        hub.checkStalledSends();
+
+        assertThat(meterRegistry.get("board.events.subscribers").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("board.events.send-timeouts").counter().count()).isZero();
+    }
+
+    // 클라이언트가 읽지 않아 소켓 쓰기가 블록된 상황을 흉내: release될 때까지 send가 돌아오지 않음
+    private static final class StalledEmitter extends SseEmitter {
+        private final CountDownLatch sendEntered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sendEntered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed.countDown();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final CountDownLatch received;
+
+        private RecordingEmitter(int expectedSends) {
+            this.received = new CountDownLatch(expectedSends);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            received.countDown();
+        }
+    }
+}
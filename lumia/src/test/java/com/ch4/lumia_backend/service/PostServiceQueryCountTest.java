@@ -0,0 +1,92 @@
+package com.ch4.lumia_backend.service;
+
+import com.ch4.lumia_backend.dto.PostResponseDto;
+import com.ch4.lumia_backend.dto.PostSummaryDto;
+import com.ch4.lumia_backend.entity.Post;
+import com.ch4.lumia_backend.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시판 목록/상세 조회가 작성자 로그인 ID를 같은 SELECT에서 가져오는지(N+1 없음) SQL 실행 횟수로 확인합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(PostService.class)
+class PostServiceQueryCountTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // 조회 경로에서는 쓰이지 않는 협력 객체
+    @MockitoBean
+    private PostSearchIndex postSearchIndex;
+
+    @MockitoBean
+    private HotPostRanking hotPostRanking;
+
+    private Statistics statistics;
+    private Long lastPostId;
+
+    @BeforeEach
+    void setUp() {
+        // 작성자가 모두 다른 게시글을 한 페이지보다 많이 저장 (COUNT 쿼리가 생략되지 않도록)
+        for (int i = 0; i < PAGE_SIZE * 2 + 5; i++) {
+            User author = entityManager.persist(User.builder()
+                    .userId("writer" + i)
+                    .password("{noop}password")
+                    .username("작성자" + i)
+                    .email("writer" + i + "@example.com")
+                    .role("ROLE_USER")
+                    .build());
+            lastPostId = entityManager.persist(Post.builder()
+                    .category("일상")
+                    .title("제목 " + i)
+                    .content("본문 " + i)
+                    .author(author)
+                    .build()).getId();
+        }
+        entityManager.flush();
+        entityManager.clear(); // 작성자가 영속성 컨텍스트에 남아 있으면 지연 로딩 SELECT가 가려짐
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getPostsRunsOneSelectAndOneCount() {
+        Page<PostSummaryDto> page = postService.getPosts(0, PAGE_SIZE, null);
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allSatisfy(post -> assertThat(post.getUserId()).startsWith("writer"));
+        assertThat(page.getTotalElements()).isEqualTo(PAGE_SIZE * 2 + 5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    void getPostResponseRunsOneSelect() {
+        PostResponseDto post = postService.getPostResponse(lastPostId);
+
+        assertThat(post.getUserId()).isEqualTo("writer" + (PAGE_SIZE * 2 + 4));
+        assertThat(post.getContent()).isEqualTo("본문 " + (PAGE_SIZE * 2 + 4));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}